@@ -0,0 +1,44 @@
+package zombie_game;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 틱 1번 (ZombieGamePanel.gameTick → GameSimulation.step) 비용
+ * - 좀비 hordeSize마리를 먼 거리 구간에 깔아 두고 TICKS틱 진행
+ * - TICKS틱 동안 도달하는 좀비가 없도록 매 호출 전 새로 준비 (준비 시간은 측정에서 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameTickBenchmark {
+
+    private static final int TICKS = 100;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int hordeSize;
+
+    private GameSimulation sim;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        sim = new GameSimulation();
+        sim.reset(42);
+        sim.endIntermission();
+        sim.setFieldWidth(1200);
+        sim.spawnHorde(hordeSize);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public void step(Blackhole bh) {
+        for (int i = 0; i < TICKS; i++) {
+            bh.consume(sim.step());
+        }
+    }
+}
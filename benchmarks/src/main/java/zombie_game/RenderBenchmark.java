@@ -0,0 +1,57 @@
+package zombie_game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좀비 그리기 (HordeRenderer.drawZombies)를 화면 밖 BufferedImage에
+ * - 패널 / 창 없이 images/ 스프라이트만 읽어 1200×800 이미지에 같은 스냅샷을 반복해서 그림
+ * - 화면이 없는 환경에서도 돌도록 headless로 fork (ImageIcon 로딩만 AWT 툴킷을 씀)
+ * - 축소 스프라이트 / 단어 라벨 캐시는 첫 호출 뒤로는 적중 상태
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    private static final int WIDTH = 1200;
+    private static final int HEIGHT = 800;
+
+    @Param({"10", "100", "1000"})
+    public int hordeSize;
+
+    private HordeRenderer renderer;
+    private GameSimulation.Snapshot snapshot;
+    private BufferedImage target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        renderer = HordeRenderer.fromResources();
+
+        GameSimulation sim = new GameSimulation();
+        sim.reset(42);
+        sim.setFieldWidth(WIDTH);
+        sim.spawnHorde(hordeSize);
+        snapshot = sim.snapshot();
+
+        target = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    @Benchmark
+    public BufferedImage drawZombies() {
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            renderer.drawZombies(g2d, snapshot, 1.0, HEIGHT * 2 / 3, null);
+        } finally {
+            g2d.dispose();
+        }
+        return target;
+    }
+}
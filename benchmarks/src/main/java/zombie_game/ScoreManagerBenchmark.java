@@ -0,0 +1,56 @@
+package zombie_game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 저장 (ScoreManager.addScore → 정렬 + 랭킹 파일 전체 다시 쓰기)
+ * - 랭킹이 rankingSize개 있는 상태에서 BATCH번 추가하는 시간
+ * - 작업 폴더의 ranking.dat은 건드리지 않음: 임시 파일을 쓰는 ScoreManager를 반복마다 새로 만듦
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = ScoreManagerBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = ScoreManagerBenchmark.BATCH)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreManagerBenchmark {
+
+    static final int BATCH = 100;
+
+    @Param({"10", "1000"})
+    public int rankingSize;
+
+    private File rankingFile;
+    private ScoreManager scores;
+    private int seq;
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        rankingFile = File.createTempFile("ranking", ".dat");
+    }
+
+    /** 반복마다 빈 파일에서 같은 크기로 채우고 시작 */
+    @Setup(Level.Iteration)
+    public void fill() throws IOException {
+        Files.deleteIfExists(rankingFile.toPath());
+        scores = new ScoreManager(rankingFile);
+        for (int i = 0; i < rankingSize; i++) {
+            scores.addScore("bench" + i, i);
+        }
+    }
+
+    @Benchmark
+    public void addScore() {
+        scores.addScore("bench", seq++ % 50);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(rankingFile.toPath());
+    }
+}
@@ -0,0 +1,46 @@
+package zombie_game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사격 대상 찾기 (handleShot → GameSimulation.shoot 안의 단어 → 가장 가까운 좀비)
+ * - 실제로 좀비를 지우지 않도록 판정 부분(findTargetRow)만 측정
+ * - hit: 살아 있는 좀비 단어, miss: 없는 단어
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShotBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    public int hordeSize;
+
+    private GameSimulation sim;
+    private String[] liveWords;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sim = new GameSimulation();
+        sim.reset(42);
+        sim.setFieldWidth(1200);
+        sim.spawnHorde(hordeSize);
+        liveWords = sim.snapshot().zombieWords;
+    }
+
+    @Benchmark
+    public int hit() {
+        String w = liveWords[cursor++ % liveWords.length];
+        return sim.findTargetRow(w);
+    }
+
+    @Benchmark
+    public int miss() {
+        return sim.findTargetRow("없는단어");
+    }
+}
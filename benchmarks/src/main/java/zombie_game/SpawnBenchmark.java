@@ -0,0 +1,45 @@
+package zombie_game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스폰 자리 검사 (예전 isSpawnTooClose → SpawnGrid)
+ * - occupants개 항목이 화면 폭에 흩어져 있을 때 한 지점 검사 / 빈 자리 뽑기
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpawnBenchmark {
+
+    private static final int FIELD_WIDTH = 1200;
+
+    @Param({"5", "50", "500"})
+    public int occupants;
+
+    private SpawnGrid grid;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grid = new SpawnGrid(120);
+        for (int i = 0; i < occupants; i++) {
+            grid.add(i + 1, random.nextInt(FIELD_WIDTH), (i % 10 == 0) ? 120 : 90);
+        }
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+        return grid.isBlocked(random.nextInt(FIELD_WIDTH));
+    }
+
+    @Benchmark
+    public int randomFreeX() {
+        return grid.randomFreeX((int) (FIELD_WIDTH * 0.15), (int) (FIELD_WIDTH * 0.85), random.nextDouble());
+    }
+}
@@ -0,0 +1,47 @@
+package zombie_game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단어 뽑기
+ * - WordManager.getRandomWord: 1스레드 / 4스레드 경합
+ * - BossWordManager.getRandomBossWords(3)
+ * - 저장소 루트에서 실행해야 words.txt / boss_words.txt를 읽음 (없으면 빈 목록 경로만 측정됨)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordManagerBenchmark {
+
+    private WordManager words;
+    private BossWordManager bossWords;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        words = WordManager.getInstance();
+        bossWords = BossWordManager.getInstance();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String randomWord() {
+        return words.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomWordContended() {
+        return words.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String[] randomBossWords() {
+        return bossWords.getRandomBossWords(3);
+    }
+}
@@ -3,6 +3,8 @@ package Project_Mold;
 import java.awt.BorderLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 import javax.swing.*;
 
@@ -22,6 +24,13 @@ public class GameFrame  extends JFrame{
     public GameFrame() {
         super("게임");
         this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        // 창을 닫을 때 떨어뜨리기 스레드 종료
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                gamePanel.stop();
+            }
+        });
         setSize(800, 600);
         makeMenu();
         makeToolBar();
@@ -10,7 +10,7 @@ public class GamePanel extends JPanel {
     private GroundPanel groundPanel = new GroundPanel();
     private ScorePanel scorePanel = null;
     private TextStore tStore = null;
-    private FallingThread fThread = new FallingThread();
+    private FallingThread fThread = null;
 
     public GamePanel(ScorePanel scorePanel, TextStore tStore) {
         this.scorePanel = scorePanel;
@@ -25,23 +25,40 @@ public class GamePanel extends JPanel {
         fallingLabel.setVisible(true);
         String text = tStore.get(); // 새 단어 받기
         fallingLabel.setText(text);
+        if (fThread != null) return; // 이미 떨어지는 중 (Start를 두 번 눌러도 스레드는 1개)
+        fThread = new FallingThread();
         fThread.start();
     }
 
+    // stop() ~~ 떨어뜨리기 스레드 종료
+    public void stop() {
+        if (fThread == null) return;
+        fThread.interrupt();
+        fThread = null;
+    }
+
     class FallingThread extends Thread {
+        public FallingThread() {
+            setDaemon(true); // 창을 닫으면 같이 끝남
+        }
+
         @Override
         public void run() {
             while(true) {
                 try {
                     sleep(300);
-                    int x = fallingLabel.getX();
-                    int y = fallingLabel.getY();
-
-                    fallingLabel.setLocation(x, y + 10);
-
                 } catch (InterruptedException e) { //종료시키려는 사건이 발생할때
-                    e.printStackTrace();
+                    return;
                 }
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        int x = fallingLabel.getX();
+                        int y = fallingLabel.getY();
+
+                        fallingLabel.setLocation(x, y + 10);
+                    }
+                });
             }
         }
     }
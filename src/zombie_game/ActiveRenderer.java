@@ -0,0 +1,203 @@
+package zombie_game;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.HierarchyEvent;
+import java.awt.image.VolatileImage;
+import java.util.function.LongSupplier;
+
+/**
+ * 능동 렌더링 루프 (선택 기능)
+ * - 전용 실행기(GameScheduler) 스레드가 VolatileImage 백버퍼에 장면을 그리고 화면에 바로 복사
+ *   (게임 틱 실행기와 따로 둠 → 화면 복사 / sync가 오래 걸려도 틱이 밀리지 않음)
+ * - RepaintManager의 repaint 병합 / 게임 루프 sleep 주기와 무관하게 목표 FPS로 그림
+ * - 프레임 시간(그리기 + 복사) 측정값 제공
+ * - 렌더 스레드는 Swing 상태를 직접 읽지 않음: 크기 / 배경색 / 표시 여부는 EDT가 바뀔 때마다 찍어 둔 View로 받음
+ * - 하드웨어 가속이 안 되면 start()가 false → 기존 repaint 방식 그대로 사용
+ */
+public class ActiveRenderer {
+
+    /** 장면 그리기 (w, h 크기의 백버퍼에 그림, 렌더 스레드에서 호출) */
+    public interface Scene {
+        void render(Graphics2D g2d, int width, int height);
+    }
+
+    /** 켜기: -Dzombie.activeRendering=true */
+    public static final String PROPERTY = "zombie.activeRendering";
+
+    private static final int TARGET_FPS = 60;
+
+    private final JComponent target;
+    private final Scene scene;
+    private final long frameNanos = 1_000_000_000L / TARGET_FPS;
+
+    private final GameScheduler scheduler = new GameScheduler("ActiveRenderer");
+    private volatile GameScheduler.Task loop;
+    private VolatileImage backBuffer;   // 렌더 스레드 전용
+
+    /** EDT에서 찍어 둔 대상 컴포넌트 상태 (바뀔 때마다 통째로 교체) */
+    private static final class View {
+        final int width;
+        final int height;
+        final Color background;
+        final boolean showing;
+
+        View(JComponent c) {
+            this.width = c.getWidth();
+            this.height = c.getHeight();
+            this.background = c.getBackground();
+            this.showing = c.isShowing();
+        }
+    }
+
+    private volatile View view;
+
+    // 측정값
+    private volatile double lastFrameMs = 0;
+    private volatile double avgFrameMs = 0;
+    private volatile long frameCount = 0;
+
+    public ActiveRenderer(JComponent target, Scene scene) {
+        this.target = target;
+        this.scene = scene;
+        this.view = new View(target);
+
+        // 크기 / 표시 여부가 바뀌면 EDT에서 다시 찍어 둠
+        target.addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent e) { captureView(); }
+            @Override public void componentShown(ComponentEvent e) { captureView(); }
+            @Override public void componentHidden(ComponentEvent e) { captureView(); }
+        });
+        target.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) captureView();
+        });
+    }
+
+    /** 대상 컴포넌트 상태 찍어 두기 (EDT) */
+    private void captureView() {
+        view = new View(target);
+    }
+
+    public static boolean isRequested() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /** 가속 가능한 백버퍼를 만들 수 있는지 검사 */
+    private boolean isAccelerationAvailable() {
+        if (GraphicsEnvironment.isHeadless()) return false;
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (gc == null) return false;
+
+        VolatileImage probe = gc.createCompatibleVolatileImage(16, 16);
+        try {
+            return probe.getCapabilities().isAccelerated();
+        } finally {
+            probe.flush();
+        }
+    }
+
+    /**
+     * 렌더 루프 시작
+     * @return 능동 렌더링으로 전환되었으면 true, 가속 불가로 기존 방식 유지면 false
+     */
+    public synchronized boolean start() {
+        if (loop != null) return true;
+        if (!isAccelerationAvailable()) return false;
+
+        captureView();
+        loop = scheduler.loop(0, new FrameLoop());
+        return true;
+    }
+
+    public synchronized void stop() {
+        if (loop == null) return;
+        loop.cancel();
+        loop = null;
+        // 그리던 프레임이 끝난 뒤 같은 스레드에서 백버퍼 해제
+        scheduler.after(0, this::releaseBackBuffer);
+    }
+
+    public boolean isRunning() {
+        return loop != null;
+    }
+
+    /** 마지막 프레임 시간 (그리기 + 화면 복사, ms) */
+    public double getLastFrameMs() { return lastFrameMs; }
+
+    public double getAverageFrameMs() { return avgFrameMs; }
+
+    public long getFrameCount() { return frameCount; }
+
+    /** 렌더 루프 1회분: 한 프레임 그리고 다음 프레임까지 기다릴 시간(나노초)을 돌려줌 (start()마다 새로 만듦) */
+    private class FrameLoop implements LongSupplier {
+        private long next = System.nanoTime();
+
+        @Override
+        public long getAsLong() {
+            long start = System.nanoTime();
+            renderFrame();
+            recordFrame(System.nanoTime() - start);
+
+            next += frameNanos;
+            long wait = next - System.nanoTime();
+            if (wait <= 0) {
+                next = System.nanoTime();   // 밀린 프레임은 따라잡지 않고 버림
+                wait = 0;
+            }
+            return wait;
+        }
+    }
+
+    private void releaseBackBuffer() {
+        if (backBuffer != null) {
+            backBuffer.flush();
+            backBuffer = null;
+        }
+    }
+
+    private void recordFrame(long nanos) {
+        double ms = nanos / 1_000_000.0;
+        lastFrameMs = ms;
+        avgFrameMs = (frameCount == 0) ? ms : avgFrameMs * 0.95 + ms * 0.05;
+        frameCount++;
+    }
+
+    private void renderFrame() {
+        View v = view;
+        int w = v.width;
+        int h = v.height;
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();   // 트리 잠금으로 읽음 (스레드 안전)
+        if (w <= 0 || h <= 0 || gc == null || !v.showing) return;
+
+        do {
+            if (backBuffer == null || backBuffer.getWidth() != w || backBuffer.getHeight() != h) {
+                if (backBuffer != null) backBuffer.flush();
+                backBuffer = gc.createCompatibleVolatileImage(w, h);
+            } else if (backBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                backBuffer.flush();
+                backBuffer = gc.createCompatibleVolatileImage(w, h);
+            }
+
+            Graphics2D g2d = backBuffer.createGraphics();
+            try {
+                g2d.setColor(v.background);
+                g2d.fillRect(0, 0, w, h);
+                scene.render(g2d, w, h);
+            } finally {
+                g2d.dispose();
+            }
+
+            Graphics g = target.getGraphics();
+            if (g == null) return;
+            try {
+                g.drawImage(backBuffer, 0, 0, null);
+            } finally {
+                g.dispose();
+            }
+        } while (backBuffer.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+}
@@ -0,0 +1,129 @@
+package zombie_game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * 라운드별 배경 캐시
+ * - 라운드 배경 JPG를 화면 크기로 한 번만 늘려 화면 호환 이미지로 보관
+ *   (매 프레임 drawImage(bg, 0, 0, w, h)로 다시 늘리지 않음)
+ * - 항목은 만든 크기(w, h)를 기억 → 크기가 다르면 그때 다시 만듦
+ * - prepare(): 지금 라운드를 하는 동안 다음 라운드 배경을 미리 만들어 둠
+ *   (GameScheduler.background() 스레드 1개에서 차례로, 잠깐 기다렸다가 만들어 창 크기를 끌며 바꾸는 동안의
+ *    요청은 마지막 크기 1개로 합침 → 같은 배경을 동시에 두 번 만들지 않음)
+ * - 해당 라운드 배경이 없으면 1라운드 배경을 사용
+ */
+public class BackgroundCache {
+
+    private final Image[] sources;          // index = 라운드 - 1
+    private final BufferedImage[] scaled;   // 라운드별 늘려 둔 이미지 (lock으로 보호)
+    private final Object lock = new Object();
+
+    private static final long PREPARE_DELAY_MS = 150;
+    private final GameScheduler.Task[] pending;   // 라운드별 예약된 미리 만들기 (lock으로 보호)
+    private final int[] pendingW, pendingH;
+
+    /** @param sources 라운드 순서대로 원본 배경 (null 가능) */
+    public BackgroundCache(Image... sources) {
+        this.sources = sources.clone();
+        this.scaled = new BufferedImage[sources.length];
+        this.pending = new GameScheduler.Task[sources.length];
+        this.pendingW = new int[sources.length];
+        this.pendingH = new int[sources.length];
+    }
+
+    /** round 라운드의 원본 배경 (없으면 1라운드 배경, 그것도 없으면 null) */
+    public Image source(int round) {
+        int i = round - 1;
+        if (i >= 0 && i < sources.length && sources[i] != null) return sources[i];
+        return sources.length > 0 ? sources[0] : null;
+    }
+
+    /**
+     * round 라운드 배경을 w × h 크기로 (캐시에 없거나 크기가 다르면 지금 만듦)
+     * @return 원본이 없거나 아직 로드 전이면 null
+     */
+    public BufferedImage get(int round, int w, int h, GraphicsConfiguration gc) {
+        int i = slot(round);
+        if (i < 0 || w <= 0 || h <= 0) return null;
+
+        synchronized (lock) {
+            BufferedImage img = scaled[i];
+            if (img != null && img.getWidth() == w && img.getHeight() == h) return img;
+        }
+
+        BufferedImage img = build(source(round), w, h, gc);
+        if (img == null) return null;
+        synchronized (lock) {
+            scaled[i] = img;
+        }
+        return img;
+    }
+
+    /**
+     * round 라운드 배경을 뒷일 실행기에서 미리 만들어 둠
+     * - 이미 있거나 같은 크기로 예약돼 있으면 무시, 다른 크기로 예약돼 있으면 그 예약을 이번 크기로 바꿈
+     */
+    public void prepare(int round, int w, int h, GraphicsConfiguration gc) {
+        int i = slot(round);
+        if (i < 0 || w <= 0 || h <= 0) return;
+        synchronized (lock) {
+            BufferedImage img = scaled[i];
+            if (img != null && img.getWidth() == w && img.getHeight() == h) return;
+
+            GameScheduler.Task t = pending[i];
+            if (t != null) {
+                if (pendingW[i] == w && pendingH[i] == h) return;
+                t.cancel();   // 이미 만드는 중이면 끝까지 만들지만 곧 이번 크기로 다시 만듦
+            }
+            pendingW[i] = w;
+            pendingH[i] = h;
+            pending[i] = GameScheduler.background().after(PREPARE_DELAY_MS, () -> runPrepare(i, round, w, h, gc));
+        }
+    }
+
+    private void runPrepare(int i, int round, int w, int h, GraphicsConfiguration gc) {
+        try {
+            get(round, w, h, gc);
+        } finally {
+            synchronized (lock) {
+                if (pendingW[i] == w && pendingH[i] == h) pending[i] = null;
+            }
+        }
+    }
+
+    /** 모든 라운드 캐시 비우기 (창 크기 변경 / 모니터 이동) */
+    public void invalidate() {
+        synchronized (lock) {
+            Arrays.fill(scaled, null);
+        }
+    }
+
+    /** 예약된 미리 만들기가 있는지 (테스트용) */
+    boolean isPreparing(int round) {
+        int i = slot(round);
+        synchronized (lock) {
+            return i >= 0 && pending[i] != null;
+        }
+    }
+
+    private int slot(int round) {
+        int i = round - 1;
+        if (i >= 0 && i < sources.length && sources[i] != null) return i;
+        return (sources.length > 0 && sources[0] != null) ? 0 : -1;
+    }
+
+    private static BufferedImage build(Image src, int w, int h, GraphicsConfiguration gc) {
+        if (src == null || src.getWidth(null) <= 0 || src.getHeight(null) <= 0) return null;
+
+        BufferedImage img = (gc != null)
+                ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(src, 0, 0, w, h, null);
+        g.dispose();
+        return img;
+    }
+}
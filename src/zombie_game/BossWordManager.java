@@ -10,7 +10,8 @@ public class BossWordManager {
     private static final BossWordManager instance = new BossWordManager();
     public static BossWordManager getInstance() { return instance; }
 
-    private final List<String> wordPool = new ArrayList<>();
+    // 최신 단어 팩(boss_words.pack)이 있으면 그 읽기 전용 목록 (뽑힐 때 디코딩)
+    private List<String> wordPool = new ArrayList<>();
     private final Random random = new Random();
 
     // ✅ 생성자에서 자동 로드 (기존 실행 흐름 유지)
@@ -20,13 +21,19 @@ public class BossWordManager {
 
     // ---------- 로딩 ----------
     public void loadFromFile(String fileName) {
-        wordPool.clear();
+        wordPool = new ArrayList<>();
 
         File f = new File(fileName);
         if (!f.exists()) {
             return; // 디버깅 출력 제거 (동작 동일)
         }
 
+        WordPack pack = WordPack.openFor(f);
+        if (pack != null) {
+            wordPool = pack.asList();
+            return;
+        }
+
         try (BufferedReader br = new BufferedReader(
                 new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
 
@@ -43,6 +50,11 @@ public class BossWordManager {
 
     // ✅ 핵심: 중복 없는 단어 뽑기 (public으로 제공)
     public String[] getRandomBossWords(int count) {
+        return getRandomBossWords(count, random);
+    }
+
+    // 호출 측 난수로 뽑기 (시드를 고정한 게임 재생용)
+    public String[] getRandomBossWords(int count, Random random) {
         if (wordPool.isEmpty() || count <= 0) return null;
 
         // (1) 풀 크기가 충분하면: 완전 중복 없이 뽑기
@@ -0,0 +1,122 @@
+package zombie_game;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 총알 애니메이션 스케줄러
+ * - 총알마다 스레드를 만들지 않고 Swing Timer 1개로 날아가는 모든 총알을 함께 진행
+ * - 프레임마다 전체 총알 1스텝 이동 → 도착한 총알은 한 번에 제거 → repaint 1번
+ * - 날아가는 총알이 없으면 타이머 정지 (스레드 수는 발사 속도와 무관하게 일정)
+ * - 총알 객체는 풀에서 꺼내 쓰고, 도착하거나 clear()되면 풀에 반납
+ * - 변경은 EDT에서만, 그리기용 배열(getBullets)은 렌더 스레드에서도 읽기 가능
+ */
+public class BulletScheduler {
+
+    /** 총알 1발이 목표까지 가는 스텝 수 / 스텝 간격 (약 0.15초) */
+    public static final int STEPS = 18;
+    public static final int FRAME_MS = 8;
+
+    private static final Bullet[] NONE = new Bullet[0];
+
+    private final List<Bullet> bullets = new ArrayList<>();
+    private final ObjectPool<Bullet> pool = new ObjectPool<>("총알", 64, 16, Bullet::new);
+    private volatile Bullet[] view = NONE;   // 그리기용 (목록이 바뀔 때만 새로 만듦)
+    private final Timer timer;
+    private final Runnable onFrame;
+
+    /** 총알 1발 (위치는 스케줄러가 갱신, 풀에서 재사용) */
+    public static class Bullet {
+        double x, y;
+        double startX, startY;
+        double targetX, targetY;
+        int step = 0;
+
+        Bullet() {}
+
+        void reset(double startX, double startY, double targetX, double targetY) {
+            this.startX = startX;
+            this.startY = startY;
+            this.x = startX;
+            this.y = startY;
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.step = 0;
+        }
+
+        public double getX() { return x; }
+        public double getY() { return y; }
+    }
+
+    /** @param onFrame 프레임마다 1번 호출 (보통 repaint) */
+    public BulletScheduler(Runnable onFrame) {
+        this.onFrame = onFrame;
+        this.timer = new Timer(FRAME_MS, e -> advance());
+        this.timer.setCoalesce(true);
+    }
+
+    /** 새 총알 발사 */
+    public void fire(double startX, double startY, double targetX, double targetY) {
+        Bullet b = pool.acquire();
+        b.reset(startX, startY, targetX, targetY);
+        bullets.add(b);
+        publish();
+        if (!timer.isRunning()) timer.start();
+    }
+
+    /** 모든 총알 1스텝 진행 후 도착한 총알 일괄 제거 */
+    private void advance() {
+        for (Bullet b : bullets) {
+            b.step++;
+            double t = Math.min(1.0, b.step / (double) STEPS);
+            b.x = b.startX + (b.targetX - b.startX) * t;
+            b.y = b.startY + (b.targetY - b.startY) * t;
+        }
+        // ★ 이동 애니메이션이 끝난 총알은 목표 지점에서 1프레임 보여준 뒤 제거 (풀에 반납)
+        int kept = 0;
+        int n = bullets.size();
+        for (int i = 0; i < n; i++) {
+            Bullet b = bullets.get(i);
+            if (b.step > STEPS) {
+                pool.release(b);
+            } else {
+                bullets.set(kept++, b);
+            }
+        }
+        if (kept < n) {
+            bullets.subList(kept, n).clear();
+            publish();
+        }
+
+        if (bullets.isEmpty()) timer.stop();
+        onFrame.run();
+    }
+
+    /** 화면에 남은 총알 전부 제거 */
+    public void clear() {
+        for (int i = 0; i < bullets.size(); i++) pool.release(bullets.get(i));
+        bullets.clear();
+        publish();
+        timer.stop();
+    }
+
+    private void publish() {
+        view = bullets.isEmpty() ? NONE : bullets.toArray(new Bullet[0]);
+    }
+
+    /** 그리기용 배열 (읽기 전용으로 사용, 프레임마다 할당 없음) */
+    public Bullet[] getBullets() {
+        return view;
+    }
+
+    /** 총알 풀 (디버그 표시용) */
+    public ObjectPool<Bullet> getPool() {
+        return pool;
+    }
+
+    /** 현재 날아가고 있는 총알 수 */
+    public int getInFlightCount() {
+        return bullets.size();
+    }
+}
@@ -0,0 +1,8 @@
+package zombie_game;
+
+/** 단어 난이도 구간 (WordDifficulty 점수 기준, 라운드마다 RoundManager가 정함) */
+public enum DifficultyBand {
+    EASY,
+    NORMAL,
+    HARD
+}
@@ -0,0 +1,81 @@
+package zombie_game;
+
+import java.awt.*;
+
+/**
+ * 부분 다시 그리기(dirty rectangle) 영역 계산
+ * - 화면을 몇 개의 레이어(좀비 / 총알 / 덮개 효과 …)로 나눠 레이어별로
+ *   "화면에 아직 남아 있을 수 있는 영역(stale)"을 기억한다
+ * - 다시 그릴 영역 = 지난번에 그린 영역 ∪ 이번에 그릴 영역 (레이어 합집합)
+ * - 그리기가 clip 안에서만 일어나므로, clip이 기존 영역을 다 덮은 경우에만 영역을 새로 바꾼다
+ * - 레이어 내용 키(스냅샷 등)가 지난번과 같으면 그 레이어는 바뀐 게 없다고 보고 건너뜀
+ * - 동기화 없음: 요청 / 그리기 기록 모두 EDT에서만 (ZombieGamePanel.repaintView가 EDT로 넘김)
+ */
+public class DirtyRegion {
+
+    private final Rectangle[] stale;
+    private final Object[] paintedKey;
+
+    public DirtyRegion(int layers) {
+        stale = new Rectangle[layers];
+        paintedKey = new Object[layers];
+        for (int i = 0; i < layers; i++) stale[i] = new Rectangle();
+    }
+
+    /**
+     * 레이어를 key 내용(next 범위)으로 바꾸려면 다시 그려야 할 영역을 out에 더함
+     * @param key 내용이 같은지 비교할 키 (null이면 항상 바뀐 것으로 봄)
+     */
+    public void collect(int layer, Object key, Rectangle next, Rectangle out) {
+        if (key != null && key == paintedKey[layer]) return;
+        include(out, stale[layer]);
+        include(out, next);
+    }
+
+    /**
+     * clip 안에서 레이어를 key 내용으로 drawn 범위에 그렸음
+     * - clip이 기존 영역과 이번 범위를 모두 덮었을 때만 "온전히 그림"으로 기록
+     */
+    public void painted(int layer, Object key, Rectangle drawn, Rectangle clip) {
+        Rectangle old = stale[layer];
+        if (clip == null || (covers(clip, old) && covers(clip, drawn))) {
+            old.setBounds(drawn);
+            paintedKey[layer] = key;
+        } else {
+            // 일부만 다시 그려짐 → 예전 내용이 clip 밖에 남아 있을 수 있음
+            include(old, drawn);
+            paintedKey[layer] = null;
+        }
+    }
+
+    /** 모든 레이어를 "알 수 없음"으로 (창 크기 변경 / 전체 다시 그리기 후 등) */
+    public void reset(Rectangle full) {
+        for (int i = 0; i < stale.length; i++) {
+            stale[i].setBounds(full);
+            paintedKey[i] = null;
+        }
+    }
+
+    /** dst ∪= r (빈 사각형은 무시, java.awt.Rectangle.add는 빈 사각형도 원점을 포함시키므로 직접 처리) */
+    public static void include(Rectangle dst, Rectangle r) {
+        if (r == null) return;
+        include(dst, r.x, r.y, r.width, r.height);
+    }
+
+    public static void include(Rectangle dst, int x, int y, int w, int h) {
+        if (w <= 0 || h <= 0) return;
+        if (dst.isEmpty()) {
+            dst.setBounds(x, y, w, h);
+            return;
+        }
+        int x1 = Math.min(dst.x, x);
+        int y1 = Math.min(dst.y, y);
+        int x2 = Math.max(dst.x + dst.width, x + w);
+        int y2 = Math.max(dst.y + dst.height, y + h);
+        dst.setBounds(x1, y1, x2 - x1, y2 - y1);
+    }
+
+    private static boolean covers(Rectangle clip, Rectangle r) {
+        return r.isEmpty() || clip.contains(r);
+    }
+}
@@ -0,0 +1,109 @@
+package zombie_game;
+
+/**
+ * 고정 틱 게임 시계 (누적기 방식)
+ * - 실제로 흐른 시간(nanoTime)을 쌓아 두고 틱 길이만큼 쌓일 때마다 1틱
+ *   → sleep 오차 / EDT 지연이 다음 틱으로 넘어가 누적되지 않음
+ * - 늦어졌으면 밀린 틱을 한 번에 따라잡되 최대 maxCatchUp틱까지만 (나머지는 버림 → 점점 느려지는 악순환 방지)
+ * - 그리기 쪽은 alpha(틱 번호, now)로 "그 틱 이후 흐른 비율(0~1)"을 받아 직전 상태 ↔ 현재 상태 사이를 보간
+ *   (틱 번호 기준이라 스냅샷과 시계를 따로 읽어도 어긋나지 않음)
+ * - 멈춘 동안(pause ~ resume)의 시간은 세지 않음, alpha도 멈춘 시점 값 그대로
+ * - advance / pause / resume은 게임 루프 쪽, alpha는 어느 스레드에서나 호출 가능
+ */
+public class GameClock {
+
+    /** 기준점: tick번째 틱이 원래 일어났어야 할 시각 (멈춤 중이면 그때의 alpha 고정) */
+    private static final class Anchor {
+        final long tick;
+        final long time;
+        final boolean frozen;
+        final double frozenAlpha;
+
+        Anchor(long tick, long time, boolean frozen, double frozenAlpha) {
+            this.tick = tick;
+            this.time = time;
+            this.frozen = frozen;
+            this.frozenAlpha = frozenAlpha;
+        }
+    }
+
+    private final long stepNanos;
+    private final int maxCatchUp;
+
+    private boolean running = false;
+    private long last;   // 마지막으로 시간을 잰 시각
+    private long acc;    // 아직 틱으로 바꾸지 않은 시간 (0 <= acc < stepNanos)
+    private long droppedSteps = 0;
+
+    private volatile Anchor anchor = new Anchor(0, 0, true, 1.0);
+
+    public GameClock(long stepMs, int maxCatchUp) {
+        this.stepNanos = stepMs * 1_000_000L;
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    /** 새 게임: 멈춘 상태로 초기화 */
+    public synchronized void reset() {
+        running = false;
+        acc = 0;
+        droppedSteps = 0;
+        anchor = new Anchor(0, 0, true, 1.0);
+    }
+
+    /** 다시 흐르기 시작 (tick = 지금 시뮬레이션 누적 틱, 멈췄던 시점의 alpha에서 이어감) */
+    public synchronized void resume(long now, long tick) {
+        if (running) return;
+        double a = alpha(tick, now);
+        acc = Math.min((long) (a * stepNanos), stepNanos - 1);
+        last = now;
+        running = true;
+        anchor = new Anchor(tick, now - acc, false, 0);
+    }
+
+    /** 멈춤 (이후 alpha는 지금 값으로 고정) */
+    public synchronized void pause(long now, long tick) {
+        if (!running) return;
+        double a = alpha(tick, now);
+        running = false;
+        anchor = new Anchor(tick, 0, true, a);
+    }
+
+    /** 지금까지 흐른 시간으로 진행할 틱 수 (최대 maxCatchUp, 멈춤 중이면 0) */
+    public synchronized int advance(long now) {
+        if (!running) return 0;
+        acc += now - last;
+        last = now;
+        long n = acc / stepNanos;
+        acc -= n * stepNanos;
+        if (n > maxCatchUp) {
+            droppedSteps += n - maxCatchUp;
+            n = maxCatchUp;
+        }
+        return (int) n;
+    }
+
+    /** advance()로 받은 틱을 모두 진행한 뒤: tick(누적 틱)이 지금 기준점 */
+    public synchronized void stepped(long tick) {
+        if (!running) return;
+        anchor = new Anchor(tick, last - acc, false, 0);
+    }
+
+    /** 다음 틱까지 남은 시간 (나노초) */
+    public synchronized long nanosUntilNextStep(long now) {
+        if (!running) return stepNanos;
+        return Math.max(0, stepNanos - (acc + now - last));
+    }
+
+    /** tick번째 틱 상태를 now에 그릴 때의 보간 비율 (0 = 직전 틱 상태, 1 = tick 상태) */
+    public double alpha(long tick, long now) {
+        Anchor a = anchor;
+        if (a.frozen) return (tick == a.tick) ? a.frozenAlpha : 1.0;
+        double x = (double) (now - a.time) / stepNanos - (tick - a.tick);
+        return x < 0 ? 0 : (x > 1 ? 1 : x);
+    }
+
+    /** 따라잡지 못하고 버린 틱 수 (누적) */
+    public synchronized long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
@@ -0,0 +1,90 @@
+package zombie_game;
+
+import jdk.jfr.*;
+
+/**
+ * JFR(Java Flight Recorder) 사용자 이벤트
+ * - 기록 중이 아니면 begin/end/commit은 거의 비용 없음
+ * - 사용법: jfr/zombie_game.jfc 설정으로 기록
+ *     java -XX:StartFlightRecording:settings=jfr/zombie_game.jfc,filename=game.jfr ...
+ * - 값 채우기는 shouldCommit()이 true일 때만 (임계값 미만 이벤트는 버려짐)
+ * - 틱 / 프레임 / 사격마다 생기는 이벤트는 TICK / PAINT / SHOT.isEnabled()일 때만 객체를 만듦 (기록 안 할 때 할당 0)
+ */
+public final class GameEvents {
+
+    private GameEvents() {}
+
+    /** 이벤트 종류 (기록 중 켜져 있는지 확인용, 녹화를 시작 / 중지하면 바로 반영) */
+    static final EventType TICK = EventType.getEventType(GameTick.class);
+    static final EventType PAINT = EventType.getEventType(Paint.class);
+    static final EventType SHOT = EventType.getEventType(Shot.class);
+
+    @Name("zombie_game.GameTick")
+    @Label("Game Tick")
+    @Category({"Zombie Game", "Loop"})
+    @Description("GameSimulation.step() 1번 (ZombieGamePanel.gameTick)")
+    @StackTrace(false)
+    public static final class GameTick extends Event {
+        @Label("Tick") public long tick;
+        @Label("Round") public int round;
+        @Label("Zombies") public int zombies;
+        @Label("Boss") public boolean boss;
+        @Label("Result") public String result;
+    }
+
+    @Name("zombie_game.Paint")
+    @Label("Paint")
+    @Category({"Zombie Game", "Rendering"})
+    @Description("drawGameScreen 1번 (수동 repaint / 능동 렌더링 공통)")
+    @StackTrace(false)
+    public static final class Paint extends Event {
+        @Label("Round") public int round;
+        @Label("Zombies") public int zombies;
+        @Label("Bullets") public int bullets;
+        @Label("Clip Area") @Description("다시 그린 영역 넓이 (픽셀, 능동 렌더링은 전체)") public long clipArea;
+        @Label("Full Repaint") public boolean fullRepaint;
+    }
+
+    @Name("zombie_game.Shot")
+    @Label("Shot")
+    @Category({"Zombie Game", "Input"})
+    @Description("입력 단어 1개 판정 (handleShot → GameSimulation.shoot)")
+    @StackTrace(false)
+    public static final class Shot extends Event {
+        @Label("Round") public int round;
+        @Label("Zombies") public int zombies;
+        @Label("Word Length") public int wordLength;
+        @Label("Words Matched") @Description("명중 1, 빗나감 0") public int wordsMatched;
+        @Label("Target") @Description("MISS / ZOMBIE / BOSS") public String target;
+        @Label("Killed") public boolean killed;
+        @Label("Replay") public boolean replay;
+    }
+
+    @Name("zombie_game.WordsSaved")
+    @Label("Words Saved")
+    @Category({"Zombie Game", "File I/O"})
+    @Description("WordJournal 압축 (words.txt 스냅샷 다시 쓰기, 백그라운드)")
+    public static final class WordsSaved extends Event {
+        @Label("Words") public int words;
+        @Label("Bytes Written") @DataAmount public long bytesWritten;
+        @Label("Success") public boolean success;
+    }
+
+    @Name("zombie_game.ScoresSaved")
+    @Label("Scores Saved")
+    @Category({"Zombie Game", "File I/O"})
+    @Description("ScoreManager.saveScores (ranking.dat 직렬화)")
+    public static final class ScoresSaved extends Event {
+        @Label("Entries") public int entries;
+        @Label("Bytes Written") @DataAmount public long bytesWritten;
+        @Label("Success") public boolean success;
+    }
+
+    @Name("zombie_game.RankingRefresh")
+    @Label("Ranking Refresh")
+    @Category({"Zombie Game", "UI"})
+    @Description("ZombieRankingPanel.refreshTable (점수 읽기 + 행 다시 만들기)")
+    public static final class RankingRefresh extends Event {
+        @Label("Rows") public int rows;
+    }
+}
@@ -0,0 +1,119 @@
+package zombie_game;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 게임 시간 작업 실행기 (틱 / 카운트다운 / 라운드 배너 …)
+ * - 작업마다 new Thread를 만들지 않고 예약 실행기 1개에 모두 맡김
+ *   (스레드 1개 → 틱과 카운트다운이 동시에 돌지 않음)
+ * - 일이 없으면 스레드도 잠시 뒤 스스로 끝남 → 메인 화면에서는 게임 스레드가 남지 않음
+ * - cancelAll(): 한 판이 끝날 때(게임 오버 / 클리어 / 메인으로) 예약된 작업을 한꺼번에 취소
+ * - 작업 안에서 Swing을 건드려야 하면 SwingUtilities.invokeLater로 넘길 것
+ * - background(): 게임 시간과 상관없는 뒷일(배경 미리 늘리기 / 단어 파일 압축) 공용 실행기
+ *   (낮은 우선순위 스레드 1개, 틱 실행기와 따로 두어 오래 걸려도 틱이 밀리지 않음)
+ */
+public class GameScheduler {
+
+    private static final long IDLE_KEEP_ALIVE_MS = 1000;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Set<Task> tasks = ConcurrentHashMap.newKeySet();
+
+    private static final class BackgroundHolder {
+        static final GameScheduler INSTANCE = new GameScheduler("background", Thread.MIN_PRIORITY);
+    }
+
+    /** 뒷일 공용 실행기 (처음 쓸 때 만듦) */
+    public static GameScheduler background() {
+        return BackgroundHolder.INSTANCE;
+    }
+
+    public GameScheduler(String name) {
+        this(name, Thread.NORM_PRIORITY);
+    }
+
+    private GameScheduler(String name, int priority) {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, name + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(priority);
+            return t;
+        });
+        executor.setKeepAliveTime(IDLE_KEEP_ALIVE_MS, TimeUnit.MILLISECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /** 예약된 작업 1개 (cancel()로 취소, 이미 실행 중인 회차는 끝까지 돎) */
+    public final class Task {
+        private volatile boolean cancelled = false;
+        private volatile Future<?> future;
+
+        public void cancel() {
+            cancelled = true;
+            Future<?> f = future;
+            if (f != null) f.cancel(false);
+            tasks.remove(this);
+        }
+
+        public boolean isCancelled() { return cancelled; }
+
+        private void attach(Future<?> f) {
+            future = f;
+            if (cancelled) f.cancel(false);   // 붙이기 전(또는 다시 예약하는 사이)에 이미 취소됨
+        }
+    }
+
+    /** delayMs 뒤에 1번 실행 */
+    public Task after(long delayMs, Runnable job) {
+        Task task = new Task();
+        tasks.add(task);
+        task.attach(executor.schedule(() -> {
+            if (task.cancelled) return;
+            try {
+                job.run();
+            } finally {
+                tasks.remove(task);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS));
+        return task;
+    }
+
+    /**
+     * delayNanos 뒤부터 반복, 다음 실행까지 기다릴 시간은 job이 매번 돌려줌 (나노초)
+     * - 고정 주기 대신 "다음 틱 시각까지 남은 시간"만큼 기다리는 용도 (GameClock 참고)
+     * - job이 음수를 돌려주면 반복 종료
+     */
+    public Task loop(long delayNanos, LongSupplier job) {
+        Task task = new Task();
+        tasks.add(task);
+        task.attach(executor.schedule(new Runnable() {
+            @Override public void run() {
+                if (task.cancelled) return;
+                long next = -1;
+                try {
+                    next = job.getAsLong();
+                } finally {
+                    // 예외가 나도 반복은 멈춤
+                    if (next < 0) task.cancel();
+                    else task.attach(executor.schedule(this, next, TimeUnit.NANOSECONDS));
+                }
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS));
+        return task;
+    }
+
+    /** 예약된 작업 모두 취소 (실행기는 계속 사용 가능) */
+    public void cancelAll() {
+        for (Task t : tasks) t.cancel();
+    }
+
+    /** 지금 예약되어 있는 작업 수 (디버그 표시용) */
+    public int getPendingCount() {
+        return tasks.size();
+    }
+}
@@ -0,0 +1,764 @@
+package zombie_game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GameSimulation
+ * - ZombieGamePanel.gameTick()에서 분리한 게임 로직 (Swing 의존 없음)
+ * - 좀비 / 보스 / HP / 점수 / RoundManager 소유
+ * - 좀비 무리는 ZombieStore(열 단위 배열)에, 단어는 WordTable id로 저장
+ * - step() 1번 = 고정 길이(TICK_MS) 틱 1번
+ * - 화면은 snapshot()으로 받은 불변 스냅샷만 그린다
+ * - 게임 루프 스레드(step)와 EDT(shoot)에서 동시에 불리므로 모든 변경은 synchronized
+ * - 난수는 시드를 받은 Random 하나만 사용 (같은 시드 + 같은 틱에 같은 입력 → 같은 결과)
+ */
+public class GameSimulation {
+
+    /** 고정 틱 길이 (약 25틱/초) */
+    public static final int TICK_MS = 40;
+
+    public static final int MAX_HP = 5;
+
+    /** 일반 좀비 스프라이트 종류 수 (zombie_1 ~ zombie_4) */
+    public static final int ZOMBIE_SPRITE_COUNT = 4;
+
+    private static final double SPAWN_DISTANCE = 100.0;
+
+    // 스폰 간격: 먼 좀비(거리 > 30)와 90px, 보스와 120px 이상 떨어져야 함
+    private static final int ZOMBIE_SPAWN_GAP = 90;
+    private static final int BOSS_SPAWN_GAP = 120;
+    private static final double SPAWN_BLOCK_DISTANCE = 30.0;
+
+    // 피격 판정 & 쿨타임
+    private static final double DAMAGE_DISTANCE_THRESHOLD = 0.0;
+    private static final int DAMAGE_COOLDOWN_MAX = 15;
+
+    // 근접 경고(닿기 직전 표현)
+    private static final double DANGER_DISTANCE = 20.0;
+
+    // 보스
+    private static final int[] BOSS_SPAWN_LIMIT = {0, 2, 3, 5};
+
+    /** 틱 결과 (화면 쪽에서 HUD 갱신 / 게임 오버 처리용) */
+    public enum TickResult { NONE, DAMAGED, GAME_OVER }
+
+    private final RoundManager roundManager = new RoundManager();
+
+    // 게임 상태
+    private int hp = MAX_HP;
+    private int score = 0;
+    private long tickCount = 0;          // 라운드마다 0부터
+    private long totalTicks = 0;         // 게임 시작부터 누적 (입력 기록용)
+    private double stepDistance = 0;     // 마지막 틱에 모든 좀비 / 보스가 다가온 거리 (그리기 보간용)
+
+    // 난수 (스폰 위치 / 스프라이트 / 단어 / 피격 문구 / 화면 흔들림)
+    private long seed = 0;
+    private Random random = new Random(0);
+
+    // 사격 입력 기록 (null이면 기록 안 함)
+    private InputRecording recording;
+
+    // 라운드 시작 연출 중 (틱 진행 안 함, 화면 쪽에서 endIntermission()으로 해제)
+    private boolean intermission = true;
+
+    // 부하 테스트 모드 (stressZombies > 0): 좀비 수를 유지, 피해 / 라운드 진행 없음, 보스는 항상 1마리
+    private int stressZombies = 0;
+    private int stressSpawnPerTick = 0;
+
+    // 좀비 / 보스
+    private final ZombieStore zombies = new ZombieStore();
+    private final WordTable wordTable = new WordTable();
+    private int zombieIdSeq = 1;
+    private BossZombie bossZombie = null;
+    private int bossSpawnCountThisRound = 0;
+
+    // 단어 → 살아 있는 좀비가 있는 단어 (처음 나타날 때 추가, 마지막 좀비가 사라지면 제거)
+    private final WordTrie<WordTable.Entry> targetIndex = new WordTrie<>();
+
+    // 입력 중 글자 → 후보 단어 (자모 키 기준 접두사, 키 입력마다 이전 후보에서 좁혀 감)
+    private final WordTrie<WordTable.Entry> prefixIndex = new WordTrie<>();
+    private final List<WordTable.Entry> candidates = new ArrayList<>();
+    private String typingKey = "";
+
+    // 스폰 자리 격자 (먼 거리 구간의 좀비 + 보스)
+    private final SpawnGrid spawnGrid = new SpawnGrid(BOSS_SPAWN_GAP);
+
+    // 스폰 x 좌표 계산용 (화면 폭, 화면 쪽에서 넣어줌)
+    private int fieldWidth = 0;
+
+    // 피격 연출 & 쿨타임
+    private int damageCooldownTicks = 0;              // 맞은 후 잠깐 무적
+    private int damageEffectFrames = 0;
+    private int gunShakeFrames = 0;
+    private int screenShakeFrames = 0;                // 피격 시 화면 흔들림 틱 수
+    private int shakeX = 0, shakeY = 0;               // 이번 틱 화면 흔들림 오프셋
+    private String damageText = null;
+    private int damageTextFrames = 0;
+
+    private boolean dangerNear = false;
+    private int dangerPulseTick = 0;
+
+    // 마지막으로 발행한 스냅샷 (그리기 스레드는 이것만 읽는다)
+    private volatile Snapshot snapshot;
+
+    // 다음 발행 때 새로 복사할 좀비 열 (안 바뀐 열은 직전 스냅샷의 배열을 그대로 공유)
+    private boolean rowsChanged = true;         // 추가 / 삭제 → 모든 열 (행 순서가 바뀜)
+    private boolean distancesChanged = true;    // 틱 이동
+    private boolean candidatesChanged = true;   // 입력 중 후보 표시
+
+    public GameSimulation() {
+        publish();
+    }
+
+    // ---------------- 내부 클래스 ----------------
+
+    /** 3개의 단어를 순서대로 맞춰야 죽는 보스 */
+    static class BossZombie {
+        final int id;
+        final String[] words;
+        int index;
+        String word;
+        double distance;
+        final int xPos;
+
+        BossZombie(int id, String[] words, double distance, int xPos) {
+            this.id = id;
+            this.words = words;
+            this.index = 0;
+            this.word = words[0];
+            this.distance = distance;
+            this.xPos = xPos;
+        }
+
+        /** 현재 단어를 맞췄다면 true/false, 마지막 단어까지 다 맞추면 최종 true */
+        boolean hit(String typed) {
+            if (!words[index].equalsIgnoreCase(typed)) {
+                return false;
+            }
+            index++;
+            if (index < words.length) {
+                this.word = words[index];
+                return false;
+            } else {
+                return true;
+            }
+        }
+    }
+
+    /** 사격 결과 (총알 목표 위치 계산에 필요한 값은 맞기 직전 상태 기준) */
+    public static final class ShotResult {
+        public static final int MISS = 0;
+        public static final int ZOMBIE = 1;
+        public static final int BOSS = 2;
+
+        static final ShotResult MISSED = new ShotResult(MISS, 0, 0, -1, false, false, false);
+
+        public final int kind;
+        public final int xPos;
+        public final double distance;
+        public final int spriteIndex;
+        public final boolean killed;      // 일반 좀비 명중 또는 보스 최종 처치
+        public final boolean roundUp;     // 이번 사격으로 다음 라운드 진입
+        public final boolean gameClear;   // 마지막 라운드까지 클리어
+
+        ShotResult(int kind, int xPos, double distance, int spriteIndex,
+                   boolean killed, boolean roundUp, boolean gameClear) {
+            this.kind = kind;
+            this.xPos = xPos;
+            this.distance = distance;
+            this.spriteIndex = spriteIndex;
+            this.killed = killed;
+            this.roundUp = roundUp;
+            this.gameClear = gameClear;
+        }
+    }
+
+    /**
+     * 그리기 전용 불변 스냅샷
+     * - 좀비 열 배열은 발행 뒤 절대 바뀌지 않음 → 안 바뀐 열은 다음 스냅샷과 공유
+     *   (틱마다 거리 열만, 키 입력마다 후보 열만 새로 만듦)
+     */
+    public static final class Snapshot {
+        public final long tickCount;
+        public final int round;
+        public final int hp;
+        public final int score;
+
+        public final long totalTicks;
+
+        /**
+         * 직전 틱 → 이번 틱 사이에 모든 좀비 / 보스가 다가온 거리
+         * - 스폰도 이동 전에 일어나므로 직전 상태 = 지금 거리 + stepDistance (배열을 따로 복사하지 않음)
+         */
+        public final double stepDistance;
+
+        // 좀비 (인덱스 i 가 좀비 1마리)
+        public final int zombieCount;
+        public final int[] zombieIds;
+        public final int[] zombieX;
+        public final int[] zombieSprites;
+        public final double[] zombieDistances;
+        public final String[] zombieWords;
+        public final boolean[] zombieCandidates;
+
+        // 보스
+        public final boolean hasBoss;
+        public final int bossId;
+        public final int bossX;
+        public final double bossDistance;
+        public final String bossWord;
+
+        // 연출
+        public final boolean dangerNear;
+        public final int dangerPulseTick;
+        public final int damageEffectFrames;
+        public final int gunShakeFrames;
+        public final int screenShakeFrames;
+        public final int shakeX, shakeY;
+        public final String damageText;
+        public final int damageTextFrames;
+
+        private Snapshot(GameSimulation s, Snapshot prev) {
+            this.tickCount = s.tickCount;
+            this.totalTicks = s.totalTicks;
+            this.stepDistance = s.stepDistance;
+            this.round = s.roundManager.getRound();
+            this.hp = s.hp;
+            this.score = s.score;
+
+            ZombieStore zs = s.zombies;
+            int n = zs.size();
+            this.zombieCount = n;
+            boolean rows = prev == null || s.rowsChanged;
+            if (rows) {
+                this.zombieIds = Arrays.copyOf(zs.ids, n);
+                this.zombieX = Arrays.copyOf(zs.xPos, n);
+                this.zombieSprites = Arrays.copyOf(zs.sprites, n);
+                this.zombieWords = new String[n];
+                for (int i = 0; i < n; i++) zombieWords[i] = s.wordTable.get(zs.wordIds[i]).word;
+            } else {
+                this.zombieIds = prev.zombieIds;
+                this.zombieX = prev.zombieX;
+                this.zombieSprites = prev.zombieSprites;
+                this.zombieWords = prev.zombieWords;
+            }
+            this.zombieDistances = (rows || s.distancesChanged) ? Arrays.copyOf(zs.distances, n) : prev.zombieDistances;
+            if (rows || s.candidatesChanged) {
+                this.zombieCandidates = new boolean[n];
+                for (int i = 0; i < n; i++) zombieCandidates[i] = s.wordTable.get(zs.wordIds[i]).candidate;
+            } else {
+                this.zombieCandidates = prev.zombieCandidates;
+            }
+
+            BossZombie b = s.bossZombie;
+            this.hasBoss = b != null;
+            this.bossId = b != null ? b.id : 0;
+            this.bossX = b != null ? b.xPos : 0;
+            this.bossDistance = b != null ? b.distance : 0;
+            this.bossWord = b != null ? b.word : null;
+
+            this.dangerNear = s.dangerNear;
+            this.dangerPulseTick = s.dangerPulseTick;
+            this.damageEffectFrames = s.damageEffectFrames;
+            this.gunShakeFrames = s.gunShakeFrames;
+            this.screenShakeFrames = s.screenShakeFrames;
+            this.shakeX = s.shakeX;
+            this.shakeY = s.shakeY;
+            this.damageText = s.damageText;
+            this.damageTextFrames = s.damageTextFrames;
+        }
+
+        /** alpha(0 = 직전 틱, 1 = 이번 틱) 지점의 i번 좀비 거리 */
+        public double zombieDistanceAt(int i, double alpha) {
+            return zombieDistances[i] + stepDistance * (1.0 - alpha);
+        }
+
+        /** alpha 지점의 보스 거리 */
+        public double bossDistanceAt(double alpha) {
+            return bossDistance + stepDistance * (1.0 - alpha);
+        }
+    }
+
+    // ---------------- 게임 시작 / 라운드 ----------------
+
+    /** 새 게임 시작 시 상태 초기화 (난수 시드 지정) */
+    public synchronized void reset(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+        totalTicks = 0;
+        stepDistance = 0;
+        shakeX = 0;
+        shakeY = 0;
+        intermission = true;
+        hp = MAX_HP;
+        score = 0;
+        clearZombies();
+        bossZombie = null;
+        zombieIdSeq = 1;
+        tickCount = 0;
+        damageCooldownTicks = 0;
+        damageEffectFrames = 0;
+        gunShakeFrames = 0;
+        damageText = null;
+        damageTextFrames = 0;
+        bossSpawnCountThisRound = 0;
+        dangerNear = false;
+        dangerPulseTick = 0;
+        screenShakeFrames = 0;
+
+        roundManager.reset();
+        publish();
+    }
+
+    /** 다음 라운드 진입 시 필드 정리 */
+    private void resetForNewRound() {
+        clearZombies();
+        tickCount = 0;
+        stepDistance = 0;
+        damageCooldownTicks = 0;
+        bossZombie = null;
+        bossSpawnCountThisRound = 0;
+    }
+
+    private void clearZombies() {
+        rowsChanged = true;
+        zombies.clear();
+        wordTable.clearLive();
+        targetIndex.clear();
+        prefixIndex.clear();
+        candidates.clear();
+        spawnGrid.clear();
+    }
+
+    private void addZombie(int id, String word, double distance, int xPos, int spriteIndex) {
+        WordTable.Entry e = wordTable.intern(word);
+        int row = zombies.add(id, e.id, distance, xPos, spriteIndex);
+        rowsChanged = true;
+        spawnGrid.add(id, xPos, ZOMBIE_SPAWN_GAP);
+        zombies.inSpawnGrid[row] = true;
+
+        e.addLive(id);
+        if (e.liveCount == 1) {
+            // 이 단어를 가진 좀비가 처음 등장 → 인덱스에 추가
+            targetIndex.add(e.word, e);
+            prefixIndex.add(e.jamoKey, e);
+
+            // 입력 중인 글자와 맞으면 후보에 추가
+            if (!typingKey.isEmpty() && e.jamoKey.startsWith(typingKey)) {
+                e.candidate = true;
+                candidates.add(e);
+            }
+        }
+    }
+
+    /** row의 좀비 제거 (마지막 행이 row 자리로 옮겨짐) */
+    private void removeZombieAt(int row) {
+        int id = zombies.ids[row];
+        WordTable.Entry e = wordTable.get(zombies.wordIds[row]);
+        leaveSpawnGrid(row);
+        zombies.removeAt(row);
+        rowsChanged = true;
+
+        e.removeLive(id);
+        if (e.liveCount == 0) {
+            // 이 단어를 가진 좀비가 더 없음 → 인덱스 / 후보에서 제거
+            targetIndex.remove(e.word, e);
+            prefixIndex.remove(e.jamoKey, e);
+            if (e.candidate) {
+                e.candidate = false;
+                candidates.remove(e);
+            }
+        }
+    }
+
+    private void leaveSpawnGrid(int row) {
+        if (zombies.inSpawnGrid[row]) {
+            spawnGrid.remove(zombies.ids[row], zombies.xPos[row], ZOMBIE_SPAWN_GAP);
+            zombies.inSpawnGrid[row] = false;
+        }
+    }
+
+    public synchronized long getSeed() { return seed; }
+
+    public synchronized long getTotalTicks() { return totalTicks; }
+
+    /**
+     * 부하 테스트 모드 설정 (zombies = 0 이면 해제)
+     * @param zombies      유지할 좀비 수
+     * @param spawnPerTick 틱마다 채워 넣는 최대 좀비 수
+     */
+    public synchronized void setStress(int zombies, int spawnPerTick) {
+        this.stressZombies = Math.max(0, zombies);
+        this.stressSpawnPerTick = Math.max(1, spawnPerTick);
+    }
+
+    public synchronized boolean isStress() { return stressZombies > 0; }
+
+    /** 라운드 시작 연출이 끝남 → 다음 step()부터 틱 진행 */
+    public synchronized void endIntermission() {
+        intermission = false;
+    }
+
+    /** 사격 입력 기록 시작 (null이면 기록 중지) */
+    public synchronized void setRecording(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    public synchronized void setFieldWidth(int width) {
+        this.fieldWidth = width;
+    }
+
+    public synchronized int getHp() { return hp; }
+
+    public synchronized int getScore() { return score; }
+
+    public synchronized int getRound() { return roundManager.getRound(); }
+
+    /** 마지막으로 발행된 스냅샷 (어느 스레드에서나 호출 가능) */
+    public Snapshot snapshot() { return snapshot; }
+
+    private void publish() {
+        snapshot = new Snapshot(this, snapshot);
+        rowsChanged = false;
+        distancesChanged = false;
+        candidatesChanged = false;
+    }
+
+    // ---------------- 메인 게임 틱 ----------------
+
+    /** 고정 길이 틱 1번 진행 */
+    public synchronized TickResult step() {
+        if (hp <= 0) return TickResult.GAME_OVER;
+        // 라운드가 막 바뀐 직후에는 연출이 끝날 때까지 멈춤 (사격과 틱 순서가 항상 같도록)
+        if (intermission) return TickResult.NONE;
+
+        tickCount++;
+        totalTicks++;
+
+        int round = roundManager.getRound();
+        int spawnInterval;
+        if (round <= 1) spawnInterval = 30;
+        else if (round == 2) spawnInterval = 22;
+        else spawnInterval = 16;
+
+        if (stressZombies > 0) {
+            // 부하 테스트: 정해진 수가 될 때까지 틱마다 채움
+            int missing = stressZombies - zombies.size();
+            if (missing > 0) addRandomZombies(Math.min(missing, stressSpawnPerTick));
+        } else if (tickCount % spawnInterval == 0) {
+            spawnZombie();
+        }
+
+        trySpawnBoss();
+
+        if (damageCooldownTicks > 0) damageCooldownTicks--;
+        if (damageEffectFrames > 0) damageEffectFrames--;
+        if (gunShakeFrames > 0) gunShakeFrames--;
+        if (damageTextFrames > 0) damageTextFrames--;
+        if (screenShakeFrames > 0) screenShakeFrames--;
+
+        boolean damagedThisTick = false;
+
+        // 좀비 이동 속도 (라운드별로)
+        double speedBase = roundManager.getZombieSpeed(); // 1,2,3...
+        double speedPerTick;
+        if (round == 1)      speedPerTick = speedBase * 0.15;
+        else if (round == 2) speedPerTick = speedBase * 0.18;
+        else                 speedPerTick = speedBase * 0.21;
+        stepDistance = speedPerTick;
+
+        dangerNear = false;
+
+        // 거리 갱신 (열 배열을 순서대로 한 번에)
+        int n = zombies.size();
+        double[] dist = zombies.distances;
+        for (int i = 0; i < n; i++) {
+            dist[i] -= speedPerTick;
+        }
+        distancesChanged = true;
+
+        // 스폰 격자 / 위험 / 도달 판정 (도달한 행은 삭제 후 같은 자리 다시 검사)
+        for (int i = 0; i < zombies.size(); ) {
+            double d = zombies.distances[i];
+
+            // 가까워진 좀비는 더 이상 스폰 자리를 막지 않음
+            if (d <= SPAWN_BLOCK_DISTANCE) {
+                leaveSpawnGrid(i);
+            }
+
+            if (d <= DANGER_DISTANCE) {
+                dangerNear = true;
+            }
+
+            if (d <= DAMAGE_DISTANCE_THRESHOLD) {
+                removeZombieAt(i);
+                if (stressZombies == 0 && !damagedThisTick && damageCooldownTicks == 0) {
+                    hp--;
+                    damagedThisTick = true;
+                }
+            } else {
+                i++;
+            }
+        }
+
+        if (bossZombie != null) {
+            bossZombie.distance -= speedPerTick;
+
+            if (bossZombie.distance <= DANGER_DISTANCE) {
+                dangerNear = true;
+            }
+
+            if (bossZombie.distance <= DAMAGE_DISTANCE_THRESHOLD) {
+                if (stressZombies == 0 && damageCooldownTicks == 0) {
+                    hp -= 2;
+                    damagedThisTick = true;
+                }
+                spawnGrid.remove(bossZombie.id, bossZombie.xPos, BOSS_SPAWN_GAP);
+                bossZombie = null;
+            }
+        }
+
+        if (dangerNear) dangerPulseTick++; else dangerPulseTick = 0;
+
+        TickResult result = TickResult.NONE;
+        if (damagedThisTick) {
+            damageCooldownTicks = DAMAGE_COOLDOWN_MAX;
+            damageEffectFrames = 12;
+            gunShakeFrames = 12;
+            screenShakeFrames = 12;  // ★ 화면 흔들림 추가
+            damageText = (random.nextDouble() < 0.5) ? "물림!" : "윽!";
+            damageTextFrames = 20;
+
+            result = (hp <= 0) ? TickResult.GAME_OVER : TickResult.DAMAGED;
+        }
+
+        // ★ 화면 흔들림 (틱마다 한 번 정함)
+        if (screenShakeFrames > 0) {
+            double power = 6.0; // 흔들림 강도
+            shakeX = (int) ((random.nextDouble() - 0.5) * 2 * power);
+            shakeY = (int) ((random.nextDouble() - 0.5) * 2 * power);
+        } else {
+            shakeX = 0;
+            shakeY = 0;
+        }
+
+        publish();
+        return result;
+    }
+
+    private void spawnZombie() {
+        // 라운드에 맞는 난이도 구간에서 뽑음 (부하 테스트용 addRandomZombies는 전체에서)
+        String w = WordManager.getInstance().getRandomWord(roundManager.getWordBand(), random);
+
+        // 다른 좀비와 너무 겹치지 않는 자리 중 하나를 바로 뽑음
+        int minX = (int) (fieldWidth * 0.15);
+        int maxX = (int) (fieldWidth * 0.85);
+        int xPos = spawnGrid.randomFreeX(minX, maxX, random.nextDouble());
+        if (xPos < 0) {
+            // 빈 자리가 없으면 겹치더라도 스폰
+            xPos = (int) (fieldWidth * (0.15 + random.nextDouble() * 0.7));
+        }
+
+        int spriteIndex = random.nextInt(ZOMBIE_SPRITE_COUNT);
+
+        addZombie(zombieIdSeq++, w, SPAWN_DISTANCE, xPos, spriteIndex);
+    }
+
+    /** 벤치마크 / 부하 테스트용: 좀비 count마리를 먼 거리 구간에 바로 추가 (스폰 간격 / 자리 검사 없음) */
+    synchronized void spawnHorde(int count) {
+        addRandomZombies(count);
+        publish();
+    }
+
+    private void addRandomZombies(int count) {
+        for (int i = 0; i < count; i++) {
+            String w = WordManager.getInstance().getRandomWord(random);
+            int xPos = (int) (fieldWidth * (0.15 + random.nextDouble() * 0.7));
+            double distance = SPAWN_BLOCK_DISTANCE + random.nextDouble() * (SPAWN_DISTANCE - SPAWN_BLOCK_DISTANCE);
+            addZombie(zombieIdSeq++, w, distance, xPos, random.nextInt(ZOMBIE_SPRITE_COUNT));
+        }
+    }
+
+    private void trySpawnBoss() {
+        int round = roundManager.getRound();
+
+        int limit;
+        if (round >= 0 && round < BOSS_SPAWN_LIMIT.length) {
+            limit = BOSS_SPAWN_LIMIT[round];
+        } else {
+            limit = BOSS_SPAWN_LIMIT[BOSS_SPAWN_LIMIT.length - 1];
+        }
+
+        if (bossZombie != null) return;
+        if (stressZombies > 0) {
+            // 부하 테스트: 보스 자리는 항상 채움
+            spawnBoss();
+            return;
+        }
+        if (limit == 0) return;
+        if (bossSpawnCountThisRound >= limit) return;
+
+        int interval;
+        if (round <= 1) interval = 220;
+        else if (round == 2) interval = 170;
+        else interval = 130;
+
+        if (tickCount % interval == 0) {
+            spawnBoss();
+        }
+    }
+
+    private void spawnBoss() {
+        // 🔥 항상 3개의 단어를 사용하는 보스
+        String[] bossWords = BossWordManager.getInstance().getRandomBossWords(3, random);
+        if (bossWords == null) return;
+
+        int xPos = fieldWidth / 2;
+        bossZombie = new BossZombie(zombieIdSeq++, bossWords, SPAWN_DISTANCE, xPos);
+        spawnGrid.add(bossZombie.id, xPos, BOSS_SPAWN_GAP);
+        bossSpawnCountThisRound++;
+    }
+
+    // ---------------- 사격 처리 ----------------
+
+    /** 입력 단어로 사격. 일반 좀비 → 보스 순으로 판정 */
+    public synchronized ShotResult shoot(String text) {
+        String typed = text.trim();
+        if (typed.isEmpty() || hp <= 0) return ShotResult.MISSED;
+
+        if (recording != null) recording.record(totalTicks, typed);
+
+        // 1) 먼저 일반 좀비부터 판정 (보스가 있어도 항상 가능해야 함)
+        int targetRow = findTargetRow(typed);
+
+        if (targetRow >= 0) {
+            int xPos = zombies.xPos[targetRow];
+            double distance = zombies.distances[targetRow];
+            int spriteIndex = zombies.sprites[targetRow];
+
+            // 좀비 제거 & 점수 증가
+            removeZombieAt(targetRow);
+            score++;
+
+            int level = checkLevelUp();
+            ShotResult r = new ShotResult(ShotResult.ZOMBIE, xPos, distance, spriteIndex, true, level > 0, level < 0);
+            publish();
+            return r;
+        }
+
+        // 2) 일반 좀비가 아니면 보스 판정
+        if (bossZombie == null) return ShotResult.MISSED;
+
+        BossZombie boss = bossZombie;
+        boolean bossDead = boss.hit(typed);
+
+        int level = 0;
+        if (bossDead) {
+            // ★ 세 단어를 모두 맞춰서 최종적으로 쓰러뜨렸을 때만 +1점
+            score += 1;
+            spawnGrid.remove(boss.id, boss.xPos, BOSS_SPAWN_GAP);
+            level = checkLevelUp();
+            bossZombie = null;
+        }
+
+        ShotResult r = new ShotResult(ShotResult.BOSS, boss.xPos, boss.distance, -1, bossDead, level > 0, level < 0);
+        publish();
+        return r;
+    }
+
+    /**
+     * 입력 단어와 같은 좀비 중 가장 가까운 좀비의 행 (없으면 -1)
+     * - 호출 측에서 동기화 (shoot / 벤치마크)
+     */
+    int findTargetRow(String typed) {
+        int targetRow = -1;
+        for (WordTable.Entry e : targetIndex.get(typed)) {
+            for (int i = 0; i < e.liveCount; i++) {
+                int row = zombies.rowOf(e.liveIds[i]);
+                if (targetRow < 0 || zombies.distances[row] < zombies.distances[targetRow]) {
+                    targetRow = row;
+                }
+            }
+        }
+        return targetRow;
+    }
+
+    // ---------------- 입력 중 후보 (키 입력마다) ----------------
+
+    /**
+     * 입력 중인 글자(조합 중인 한글 포함)로 후보 단어 갱신
+     * - 이전 입력을 이어 친 경우: 이전 후보 중에서만 좁힘
+     * - 지웠거나 바꾼 경우: 접두사 트라이에서 다시 찾음
+     * @return 후보 단어가 1개이고 그 단어와 완전히 일치하면 true (자동 발사)
+     */
+    public synchronized boolean updateTyping(String text) {
+        String typed = (text == null) ? "" : text.trim();
+        String key = HangulJamo.key(typed);
+
+        if (!key.equals(typingKey)) {
+            narrowCandidates(key);
+            typingKey = key;
+            candidatesChanged = true;
+            publish();   // 바뀐 후보 열만 새로 만듦
+        }
+
+        return candidates.size() == 1 && candidates.get(0).word.equalsIgnoreCase(typed);
+    }
+
+    /**
+     * 입력 중 후보 지우기 (미리 보기를 끈 상태에서 키 입력마다)
+     * @return 지울 후보가 있었으면 true (없으면 스냅샷도 새로 만들지 않음)
+     */
+    public synchronized boolean clearTyping() {
+        if (typingKey.isEmpty()) return false;
+        updateTyping("");
+        return true;
+    }
+
+    private void narrowCandidates(String key) {
+        if (key.isEmpty()) {
+            clearCandidates();
+        } else if (!typingKey.isEmpty() && key.startsWith(typingKey)) {
+            int kept = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                WordTable.Entry e = candidates.get(i);
+                if (e.jamoKey.startsWith(key)) {
+                    candidates.set(kept++, e);
+                } else {
+                    e.candidate = false;
+                }
+            }
+            candidates.subList(kept, candidates.size()).clear();
+        } else {
+            clearCandidates();
+            prefixIndex.collectPrefix(key, candidates);
+            for (WordTable.Entry e : candidates) e.candidate = true;
+        }
+    }
+
+    private void clearCandidates() {
+        for (WordTable.Entry e : candidates) e.candidate = false;
+        candidates.clear();
+    }
+
+    /** 후보 좀비 수 */
+    public synchronized int getCandidateCount() {
+        int count = 0;
+        for (WordTable.Entry e : candidates) count += e.liveCount;
+        return count;
+    }
+
+    /** 라운드 클리어 / 게임 클리어 체크: 1 = 다음 라운드, -1 = 게임 클리어, 0 = 변화 없음 */
+    private int checkLevelUp() {
+        if (stressZombies > 0) return 0;   // 부하 테스트 중에는 라운드 고정
+        if (!roundManager.checkLevelUp(score)) return 0;
+        intermission = true;
+        if (roundManager.getRound() > 3) return -1;
+
+        resetForNewRound();
+        return 1;
+    }
+}
@@ -0,0 +1,64 @@
+package zombie_game;
+
+/**
+ * 한글 자모 분해 키
+ * - 입력 중(조합 중)인 글자도 접두사로 비교할 수 있도록 단어를 자모열로 풀어 둔다
+ *   예) "닭" → ㄷㅏㄹㄱ, 조합 중 "달" → ㄷㅏㄹ  (접두사 일치)
+ *       "가기" → ㄱㅏㄱㅣ, 조합 중 "각" → ㄱㅏㄱ (받침이 다음 글자 초성이 되는 경우도 일치)
+ * - 초성/종성 구분 없이 호환 자모 하나로, 겹받침(ㄳ)·겹모음(ㅘ)은 낱자로 나눈다
+ * - 한글이 아닌 문자는 WordTrie와 같은 기준으로 대소문자만 정규화
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char COMPAT_FIRST = 0x3131;
+    private static final char COMPAT_LAST = 0x3163;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ",
+            "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 낱자로 입력된 겹자모(ㄳ, ㅘ 등) → 낱자 자모열
+    private static final String[] COMPAT = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] c : compounds) {
+            COMPAT[c[0].charAt(0) - COMPAT_FIRST] = c[1];
+        }
+    }
+
+    private HangulJamo() {}
+
+    /** 접두사 비교용 자모 키 */
+    public static String key(String word) {
+        StringBuilder sb = new StringBuilder(word.length() * 3);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int code = c - SYLLABLE_BASE;
+                sb.append(CHO.charAt(code / (21 * 28)));
+                sb.append(JUNG[(code / 28) % 21]);
+                sb.append(JONG[code % 28]);
+            } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST && COMPAT[c - COMPAT_FIRST] != null) {
+                sb.append(COMPAT[c - COMPAT_FIRST]);
+            } else {
+                sb.append(WordTrie.fold(c));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,256 @@
+package zombie_game;
+
+import javax.swing.*;
+import java.awt.*;
+import java.net.URL;
+
+/**
+ * 좀비 무리 + 보스 그리기 (스냅샷 → Graphics2D)
+ * - 스프라이트 원본, 거리 단계별 축소 캐시(SpriteCache), 단어 라벨 캐시(WordLabelCache)를 함께 들고 있음
+ * - Swing 컴포넌트에 기대지 않음 → ZombieGamePanel도, 벤치마크(benchmarks/)도 화면 밖 이미지에 그대로 그릴 수 있음
+ * - 그리기는 한 번에 한 스레드에서만 (EDT 또는 능동 렌더링 스레드)
+ * - invalidate()는 어느 스레드에서나: 표시만 해 두고 실제로 비우는 건 다음 그리기 때 그리는 스레드에서
+ */
+public class HordeRenderer {
+
+    // 거리 단계별로 미리 축소해 둔 스프라이트 (창 크기 바뀌면 비움)
+    private static final int SPRITE_SCALE_BUCKETS = 48;
+
+    private final Image[] zombieImages;
+    private final Image bossImage;
+    private final SpriteCache[] zombieSpriteCaches;
+    private final SpriteCache bossSpriteCache;
+    private final boolean anySprite;
+    private volatile boolean invalidated;   // 다음 그리기 때 축소 캐시 비우기
+
+    // 그리기용 Font / Color / Stroke 공유 인스턴스
+    private final RenderResources res = RenderResources.getInstance();
+
+    // 단어 라벨 캐시 (좀비: 빨간 글씨 + 좌우 아래 그림자, 보스: 노란 글씨 + 오른쪽 아래 그림자)
+    private final WordLabelCache zombieLabels = new WordLabelCache("맑은 고딕", Font.BOLD,
+            Color.RED, Color.BLACK, new int[][]{{1, 1}, {-1, 1}}, 512);
+    private final WordLabelCache candidateLabels = new WordLabelCache("맑은 고딕", Font.BOLD,
+            new Color(255, 230, 80), Color.BLACK, new int[][]{{1, 1}, {-1, 1}}, 128);
+    private final WordLabelCache bossLabels = new WordLabelCache("맑은 고딕", Font.BOLD,
+            Color.YELLOW, Color.BLACK, new int[][]{{2, 2}}, 64);
+
+    /**
+     * @param zombieImages 좀비 스프라이트 (GameSimulation.ZOMBIE_SPRITE_COUNT개, null 가능)
+     * @param bossImage    보스 스프라이트 (null 가능)
+     */
+    public HordeRenderer(Image[] zombieImages, Image bossImage) {
+        this.zombieImages = zombieImages.clone();
+        this.bossImage = bossImage;
+
+        // 스프라이트 축소 캐시 (drawZombies / drawBoss의 depthScale 범위와 동일)
+        zombieSpriteCaches = new SpriteCache[this.zombieImages.length];
+        boolean any = false;
+        for (int i = 0; i < this.zombieImages.length; i++) {
+            if (this.zombieImages[i] != null) {
+                zombieSpriteCaches[i] = new SpriteCache(this.zombieImages[i],
+                        0.25 + 0.55 * 0.3, 0.25 + 0.55 * 1.0, SPRITE_SCALE_BUCKETS);
+                any = true;
+            }
+        }
+        anySprite = any;
+        bossSpriteCache = (bossImage != null) ? new SpriteCache(bossImage, 0.4, 1.1, SPRITE_SCALE_BUCKETS) : null;
+    }
+
+    /** images/ 리소스의 좀비 / 보스 스프라이트로 만들기 (못 읽은 이미지는 null → 원으로 그림) */
+    public static HordeRenderer fromResources() {
+        Image[] zombies = new Image[GameSimulation.ZOMBIE_SPRITE_COUNT];
+        for (int i = 0; i < zombies.length; i++) {
+            zombies[i] = load("zombie_" + (i + 1) + ".png");
+        }
+        return new HordeRenderer(zombies, load("zombie_boss.png"));
+    }
+
+    private static Image load(String name) {
+        URL url = HordeRenderer.class.getResource("images/" + name);
+        if (url == null) {
+            System.err.println(name + " 로드 실패");
+            return null;
+        }
+        return new ImageIcon(url).getImage();
+    }
+
+    /** 좀비 스프라이트 원본 (범위 밖이거나 없으면 null) */
+    public Image zombieImage(int spriteIndex) {
+        return (spriteIndex >= 0 && spriteIndex < zombieImages.length) ? zombieImages[spriteIndex] : null;
+    }
+
+    public Image getBossImage() {
+        return bossImage;
+    }
+
+    /** 좀비 단어 라벨 폭 (영역 계산용, 그릴 때와 같은 캐시) */
+    public int zombieLabelWidth(String word, int fontSize) {
+        return zombieLabels.get(word, fontSize).getTextWidth();
+    }
+
+    /** 보스 단어 라벨 폭 */
+    public int bossLabelWidth(String word) {
+        return bossLabels.get(word, 28).getTextWidth();
+    }
+
+    /** 창 크기 변경 / 모니터 이동 시 축소 스프라이트 캐시 비우기 (그리는 중이어도 안전, 다음 프레임부터 반영) */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    /** invalidate() 요청이 있으면 그리는 스레드에서 캐시 비우기 */
+    private void clearIfInvalidated() {
+        if (!invalidated) return;
+        invalidated = false;
+        for (SpriteCache c : zombieSpriteCaches) {
+            if (c != null) c.invalidate();
+        }
+        if (bossSpriteCache != null) bossSpriteCache.invalidate();
+    }
+
+    /**
+     * 스냅샷의 좀비들 그리기
+     * @param alpha   직전 틱(0) ↔ 이번 틱(1) 사이 보간 비율
+     * @param groundY 발이 닿는 y 좌표
+     * @param gc      축소 스프라이트를 만들 화면 설정 (null이면 일반 이미지)
+     */
+    public void drawZombies(Graphics2D g2d, GameSimulation.Snapshot s, double alpha, int groundY, GraphicsConfiguration gc) {
+        clearIfInvalidated();
+        double tick = s.tickCount - 1 + alpha;
+
+        for (int i = 0; i < s.zombieCount; i++) {
+            int spriteIndex = s.zombieSprites[i];
+            int zx = s.zombieX[i];
+            double distance = s.zombieDistanceAt(i, alpha);
+            String word = s.zombieWords[i];
+
+            if (anySprite &&
+                    spriteIndex >= 0 && spriteIndex < zombieImages.length &&
+                    zombieImages[spriteIndex] != null) {
+
+                Image img = zombieImages[spriteIndex];
+                int iw = img.getWidth(null);
+                int ih = img.getHeight(null);
+
+                float depthScale = (float) (1.0 - (distance / 120.0));
+                if (depthScale < 0.3f) depthScale = 0.3f;
+                if (depthScale > 1.0f) depthScale = 1.0f;
+
+                float spriteScale = 0.25f + 0.55f * depthScale;
+
+                int drawW = (int) (iw * spriteScale);
+                int drawH = (int) (ih * spriteScale);
+
+                // 미리 축소된 단계 이미지가 있으면 그 크기 그대로 사용
+                Image scaled = zombieSpriteCaches[spriteIndex].get(spriteScale, gc);
+                if (scaled != null) {
+                    drawW = scaled.getWidth(null);
+                    drawH = scaled.getHeight(null);
+                }
+
+                double t = (tick + s.zombieIds[i] * 5) * 0.15;
+                int sway = (int) (Math.cos(t) * 3 * depthScale);
+                int bob = (int) (Math.sin(t) * 5 * depthScale);
+
+                int xPos = zx - drawW / 2 + sway;
+                int yPos = groundY - drawH + bob;
+
+                int shadowW = (int) (drawW * 0.7);
+                int shadowH = (int) (drawH * 0.15);
+                int shadowX = zx - shadowW / 2 + sway;
+                int shadowY = groundY - shadowH / 2;
+                // 입력 중인 글자와 맞는 후보는 발밑을 노랗게
+                g2d.setColor(s.zombieCandidates[i] ? res.color(255, 230, 80, 120) : res.color(0, 0, 0, 80));
+                g2d.fillOval(shadowX, shadowY, shadowW, shadowH);
+
+                if (scaled != null) g2d.drawImage(scaled, xPos, yPos, null);
+                else g2d.drawImage(img, xPos, yPos, drawW, drawH, null);
+
+                // 단어 라벨 (그림자 포함 미리 그려 둔 이미지)
+                int fontSize = Math.max(14, (int) (24 * spriteScale));
+                boolean candidate = s.zombieCandidates[i];
+                WordLabelCache.Label label = (candidate ? candidateLabels : zombieLabels).get(word, fontSize);
+
+                int textX = xPos + drawW / 2 - label.getTextWidth() / 2;
+                int textY = yPos - 10;
+                label.draw(g2d, textX, textY);
+            } else {
+                float scale = (float) (1.0 - (distance / 120.0));
+                if (scale < 0.25f) scale = 0.25f;
+                if (scale > 1.0f) scale = 1.0f;
+
+                int zombieSize = (int) (100 * scale);
+                int yPos = groundY - zombieSize;
+                int xPos = zx - zombieSize / 2;
+
+                g2d.setColor(res.color(0, 120, 0, 180));
+                g2d.fillOval(xPos, yPos, zombieSize, zombieSize);
+
+                g2d.setColor(Color.WHITE);
+                g2d.drawString(word, xPos, yPos - 5);
+            }
+        }
+    }
+
+    /** 스냅샷의 보스 그리기 (없으면 아무것도 안 함) */
+    public void drawBoss(Graphics2D g2d, GameSimulation.Snapshot s, double alpha, int groundY, GraphicsConfiguration gc) {
+        if (!s.hasBoss) return;
+        clearIfInvalidated();
+
+        if (bossImage == null) {
+            int size = 140;
+            int yPos = groundY - size;
+            int xPos = s.bossX - size / 2;
+
+            g2d.setColor(res.color(180, 0, 0, 180));
+            g2d.fillOval(xPos, yPos, size, size);
+            g2d.setColor(Color.YELLOW);
+            g2d.setStroke(res.stroke(3));
+            g2d.drawOval(xPos, yPos, size, size);
+
+            g2d.setFont(res.font("맑은 고딕", Font.BOLD, 22));
+            g2d.setColor(Color.WHITE);
+            g2d.drawString(s.bossWord, xPos, yPos - 10);
+            return;
+        }
+
+        int iw = bossImage.getWidth(null);
+        int ih = bossImage.getHeight(null);
+
+        float depthScale = (float) (1.0 - (s.bossDistanceAt(alpha) / 120.0));
+        if (depthScale < 0.4f) depthScale = 0.4f;
+        if (depthScale > 1.1f) depthScale = 1.1f;
+
+        int drawW = (int) (iw * depthScale);
+        int drawH = (int) (ih * depthScale);
+
+        Image scaled = bossSpriteCache.get(depthScale, gc);
+        if (scaled != null) {
+            drawW = scaled.getWidth(null);
+            drawH = scaled.getHeight(null);
+        }
+
+        double t = (s.tickCount - 1 + alpha + s.bossId * 5) * 0.1;
+        int sway = (int) (Math.sin(t) * 4);
+        int bob = (int) (Math.cos(t * 0.7) * 4);
+
+        int xPos = s.bossX - drawW / 2 + sway;
+        int yPos = groundY - drawH + bob;
+
+        int shadowW = (int) (drawW * 0.8);
+        int shadowH = (int) (drawH * 0.18);
+        int shadowX = s.bossX - shadowW / 2 + sway;
+        int shadowY = groundY - shadowH / 2;
+        g2d.setColor(res.color(0, 0, 0, 90));
+        g2d.fillOval(shadowX, shadowY, shadowW, shadowH);
+
+        if (scaled != null) g2d.drawImage(scaled, xPos, yPos, null);
+        else g2d.drawImage(bossImage, xPos, yPos, drawW, drawH, null);
+
+        WordLabelCache.Label label = bossLabels.get(s.bossWord, 28);
+
+        int textX = xPos + drawW / 2 - label.getTextWidth() / 2;
+        int textY = yPos - 15;
+        label.draw(g2d, textX, textY);
+    }
+}
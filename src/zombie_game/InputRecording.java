@@ -0,0 +1,94 @@
+package zombie_game;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 입력 기록 / 재생
+ * - 한 판 = 시드 + 화면 폭 + (틱 번호, 사격 단어) 목록
+ * - 기록: GameSimulation.shoot()이 불릴 때마다 그 시점의 누적 틱 번호와 함께 저장
+ * - 재생: 같은 시드로 시작하고, 게임 루프가 틱마다 pollDue()로 그 틱까지 쏜 단어를 꺼내 그대로 사격
+ * - 파일 형식 (UTF-8 텍스트)
+ *     seed=<long>
+ *     width=<int>
+ *     <틱>\t<단어>
+ */
+public class InputRecording {
+
+    private final long seed;
+    private final int fieldWidth;
+    private final List<Long> ticks = new ArrayList<>();
+    private final List<String> shots = new ArrayList<>();
+    private int cursor = 0;   // 재생 위치
+
+    public InputRecording(long seed, int fieldWidth) {
+        this.seed = seed;
+        this.fieldWidth = fieldWidth;
+    }
+
+    public long getSeed() { return seed; }
+
+    public int getFieldWidth() { return fieldWidth; }
+
+    public synchronized int size() { return shots.size(); }
+
+    /** 사격 1번 기록 */
+    public synchronized void record(long tick, String text) {
+        ticks.add(tick);
+        shots.add(text);
+    }
+
+    /** tick까지 쏴야 하는 다음 단어 (없으면 null) */
+    public synchronized String pollDue(long tick) {
+        if (cursor >= shots.size() || ticks.get(cursor) > tick) return null;
+        return shots.get(cursor++);
+    }
+
+    /** 기록된 사격을 모두 재생했는지 */
+    public synchronized boolean isFinished() {
+        return cursor >= shots.size();
+    }
+
+    // ---------------- 파일 ----------------
+
+    public synchronized void save(File file) throws IOException {
+        try (BufferedWriter bw = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            bw.write("seed=" + seed);
+            bw.newLine();
+            bw.write("width=" + fieldWidth);
+            bw.newLine();
+            for (int i = 0; i < shots.size(); i++) {
+                bw.write(ticks.get(i) + "\t" + shots.get(i));
+                bw.newLine();
+            }
+        }
+    }
+
+    public static InputRecording load(File file) throws IOException {
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+
+            long seed = 0;
+            int width = 0;
+            List<String> lines = new ArrayList<>();
+
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.startsWith("seed=")) seed = Long.parseLong(line.substring(5).trim());
+                else if (line.startsWith("width=")) width = Integer.parseInt(line.substring(6).trim());
+                else if (!line.isEmpty()) lines.add(line);
+            }
+
+            InputRecording rec = new InputRecording(seed, width);
+            for (String l : lines) {
+                int tab = l.indexOf('\t');
+                if (tab <= 0) throw new IOException("잘못된 기록 줄: " + l);
+                rec.record(Long.parseLong(l.substring(0, tab)), l.substring(tab + 1));
+            }
+            return rec;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package zombie_game;
+
+import java.util.function.Supplier;
+
+/**
+ * 재사용 객체 풀
+ * - acquire(): 반납된 객체가 있으면 꺼내 쓰고(hit), 없으면 새로 만듦(miss)
+ * - release(): 다 쓴 객체 반납 (풀이 가득 차면 버림)
+ * - 꺼낸 객체의 값은 호출 측에서 다시 채워야 함
+ * - 동기화 없음 (한 스레드에서만 사용, 보통 EDT)
+ */
+public class ObjectPool<T> {
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final Object[] free;
+    private int freeCount = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long drops = 0;
+
+    /**
+     * @param name     디버그 표시용 이름
+     * @param capacity 보관할 최대 개수
+     * @param prefill  처음에 미리 만들어 둘 개수
+     */
+    public ObjectPool(String name, int capacity, int prefill, Supplier<T> factory) {
+        this.name = name;
+        this.factory = factory;
+        this.free = new Object[capacity];
+        for (int i = 0; i < prefill && i < capacity; i++) {
+            free[freeCount++] = factory.get();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (freeCount > 0) {
+            hits++;
+            T obj = (T) free[--freeCount];
+            free[freeCount] = null;
+            return obj;
+        }
+        misses++;
+        return factory.get();
+    }
+
+    public void release(T obj) {
+        if (obj == null) return;
+        if (freeCount < free.length) {
+            free[freeCount++] = obj;
+        } else {
+            drops++;
+        }
+    }
+
+    public String getName() { return name; }
+
+    public long getHits() { return hits; }
+
+    public long getMisses() { return misses; }
+
+    /** 풀이 가득 차서 버린 개수 */
+    public long getDrops() { return drops; }
+
+    /** 지금 풀에 남아 있는 개수 */
+    public int getFreeCount() { return freeCount; }
+
+    /** 디버그 표시용 한 줄 요약 */
+    public String summary() {
+        return name + " 풀: hit " + hits + " / miss " + misses + " / 보관 " + freeCount;
+    }
+}
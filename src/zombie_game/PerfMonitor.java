@@ -0,0 +1,100 @@
+package zombie_game;
+
+import javax.swing.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * 성능 측정 모음 (F3 성능 표시 / 부하 테스트 CSV)
+ * - 틱 시간 / 그리기 시간 / 틱 간격 / EDT 이벤트 큐 지연 (각각 최근 512개)
+ * - EDT 지연: 게임 루프 스레드에서 invokeLater로 빈 작업을 넣고 실제로 실행될 때까지 걸린 시간
+ *   (한 번에 1개만 대기, 매번 같은 Runnable 재사용)
+ * - 스레드 수 / GC 횟수·시간은 JMX(ThreadMXBean, GarbageCollectorMXBean)에서 읽음
+ */
+public class PerfMonitor {
+
+    public final TimingStats tick = new TimingStats(512);
+    public final TimingStats paint = new TimingStats(512);
+    public final TimingStats tickInterval = new TimingStats(512);
+    public final TimingStats edtLag = new TimingStats(512);
+
+    private long lastTickStart = 0;   // 게임 루프 스레드 전용
+
+    // EDT 지연 측정
+    private volatile boolean probePending = false;
+    private volatile long probePostedAt = 0;
+    private final Runnable edtProbe = () -> {
+        edtLag.add(System.nanoTime() - probePostedAt);
+        probePending = false;
+    };
+
+    // GC (최근 구간 비율 계산용)
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private long gcSampleNanos = System.nanoTime();
+    private long gcSampleTimeMs = 0;
+    private volatile double gcMsPerSecond = 0;
+
+    public void reset() {
+        tick.clear();
+        paint.clear();
+        tickInterval.clear();
+        edtLag.clear();
+        lastTickStart = 0;
+    }
+
+    /** 틱 시작 (게임 루프 스레드): 이전 틱과의 간격 기록 */
+    public void tickStarted(long now) {
+        if (lastTickStart != 0) tickInterval.add(now - lastTickStart);
+        lastTickStart = now;
+    }
+
+    /** 루프가 멈췄다 다시 시작할 때 (일시정지 / 라운드 연출 뒤) 간격이 튀지 않도록 */
+    public void tickPaused() {
+        lastTickStart = 0;
+    }
+
+    /** EDT 지연 측정 요청 (이전 측정이 아직 안 끝났으면 무시) */
+    public void probeEdt() {
+        if (probePending) return;
+        probePending = true;
+        probePostedAt = System.nanoTime();
+        SwingUtilities.invokeLater(edtProbe);
+    }
+
+    public int getThreadCount() {
+        return threads.getThreadCount();
+    }
+
+    public long getGcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : gcBeans) n += Math.max(0, gc.getCollectionCount());
+        return n;
+    }
+
+    /** JVM 시작 후 GC 누적 시간 (밀리초) */
+    public long getGcTimeMs() {
+        long t = 0;
+        for (GarbageCollectorMXBean gc : gcBeans) t += Math.max(0, gc.getCollectionTime());
+        return t;
+    }
+
+    /** 최근 구간(0.5초 이상마다 갱신)의 초당 GC 시간 (밀리초) */
+    public double getGcMsPerSecond() {
+        long now = System.nanoTime();
+        synchronized (this) {
+            long elapsed = now - gcSampleNanos;
+            if (elapsed >= 500_000_000L) {
+                long total = getGcTimeMs();
+                if (gcSampleTimeMs != 0) {
+                    gcMsPerSecond = (total - gcSampleTimeMs) / (elapsed / 1e9);
+                }
+                gcSampleTimeMs = total;
+                gcSampleNanos = now;
+            }
+        }
+        return gcMsPerSecond;
+    }
+}
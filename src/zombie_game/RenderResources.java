@@ -0,0 +1,170 @@
+package zombie_game;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 그리기용 Font / Color / Stroke 공유 저장소
+ * - 같은 (글꼴, 스타일, 크기) / 색 / 선 굵기면 항상 같은 인스턴스를 돌려줌
+ * - 처음 요청될 때만 생성하고 이후에는 조회만 (박싱/키 객체 생성 없음)
+ * - beginFrame() / endFrame() 사이에 새로 만든 개수와 스레드 할당 바이트를 세어
+ *   정상 상태의 그리기 경로가 아무것도 할당하지 않는지 확인할 수 있다
+ * - 싱글톤 패턴, EDT / 렌더 스레드 어디서나 호출 가능
+ */
+public class RenderResources {
+
+    private static final RenderResources instance = new RenderResources();
+    public static RenderResources getInstance() { return instance; }
+
+    private static final int MAX_FONT_SIZE = 128;
+
+    // 글꼴 이름 → [style][size]
+    private final Map<String, Font[][]> fonts = new HashMap<>();
+    private final IntCache<Color> colors = new IntCache<>();
+    private final IntCache<BasicStroke> strokes = new IntCache<>();
+
+    // 프레임 단위 할당 측정
+    private final com.sun.management.ThreadMXBean threadBean;
+    private int frameMisses = 0;
+    private long frameStartBytes = -1;
+    private volatile int lastFrameMisses = 0;
+    private volatile long lastFrameBytes = -1;
+    private volatile long totalMisses = 0;
+
+    private RenderResources() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean sunBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (!sunBean.isThreadAllocatedMemorySupported()) sunBean = null;
+            else if (!sunBean.isThreadAllocatedMemoryEnabled()) sunBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.threadBean = sunBean;
+    }
+
+    // ---------------- 조회 ----------------
+
+    public synchronized Font font(String name, int style, int size) {
+        if (size < 1) size = 1;
+        if (size > MAX_FONT_SIZE) size = MAX_FONT_SIZE;
+
+        Font[][] byStyle = fonts.get(name);
+        if (byStyle == null) {
+            byStyle = new Font[4][MAX_FONT_SIZE + 1];   // PLAIN, BOLD, ITALIC, BOLD|ITALIC
+            fonts.put(name, byStyle);
+        }
+        Font f = byStyle[style & 3][size];
+        if (f == null) {
+            f = new Font(name, style & 3, size);
+            byStyle[style & 3][size] = f;
+            miss();
+        }
+        return f;
+    }
+
+    public Color color(int r, int g, int b) {
+        return color(r, g, b, 255);
+    }
+
+    public synchronized Color color(int r, int g, int b, int a) {
+        int argb = ((a & 0xFF) << 24) | ((r & 0xFF) << 16) | ((g & 0xFF) << 8) | (b & 0xFF);
+        Color c = colors.get(argb);
+        if (c == null) {
+            c = new Color(r, g, b, a);
+            colors.put(argb, c);
+            miss();
+        }
+        return c;
+    }
+
+    public synchronized BasicStroke stroke(float width) {
+        int key = Float.floatToIntBits(width);
+        BasicStroke s = strokes.get(key);
+        if (s == null) {
+            s = new BasicStroke(width);
+            strokes.put(key, s);
+            miss();
+        }
+        return s;
+    }
+
+    private void miss() {
+        frameMisses++;
+        totalMisses++;
+    }
+
+    // ---------------- 프레임 할당 측정 ----------------
+
+    /** 그리기 시작 시 호출 (그리는 스레드에서) */
+    public synchronized void beginFrame() {
+        frameMisses = 0;
+        frameStartBytes = (threadBean != null) ? threadBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /** 그리기 끝에 호출 (beginFrame과 같은 스레드에서) */
+    public synchronized void endFrame() {
+        lastFrameMisses = frameMisses;
+        if (threadBean != null && frameStartBytes >= 0) {
+            lastFrameBytes = threadBean.getCurrentThreadAllocatedBytes() - frameStartBytes;
+        }
+    }
+
+    /** 직전 프레임에서 새로 만든 Font / Color / Stroke 수 (정상 상태면 0) */
+    public int getLastFrameAllocations() { return lastFrameMisses; }
+
+    /** 직전 프레임 동안 그리는 스레드가 할당한 바이트 (측정 불가면 -1) */
+    public long getLastFrameAllocatedBytes() { return lastFrameBytes; }
+
+    /** 지금까지 만든 Font / Color / Stroke 총 개수 */
+    public long getTotalAllocations() { return totalMisses; }
+
+    // ---------------- int 키 캐시 ----------------
+
+    /** int 키 → 값 (오픈 어드레싱, 박싱 없음). 호출 측에서 동기화 */
+    private static final class IntCache<T> {
+        private int[] keys = new int[64];
+        private Object[] values = new Object[64];
+        private int size = 0;
+
+        @SuppressWarnings("unchecked")
+        T get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                Object v = values[i];
+                if (v == null) return null;
+                if (keys[i] == key) return (T) v;
+            }
+        }
+
+        void put(int key, T value) {
+            if ((size + 1) * 2 > keys.length) grow();
+            insert(keys, values, key, value);
+            size++;
+        }
+
+        private void grow() {
+            int[] newKeys = new int[keys.length * 2];
+            Object[] newValues = new Object[values.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) insert(newKeys, newValues, keys[i], values[i]);
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+
+        private static void insert(int[] keys, Object[] values, int key, Object value) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != null && keys[i] != key) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        private static int mix(int h) {
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
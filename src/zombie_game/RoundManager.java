@@ -14,6 +14,21 @@ public class RoundManager {
         return 1;
     }
 
+    /**
+     * 라운드별 단어 난이도
+     *  - round 1 : EASY, round 2 : NORMAL, round 3 : HARD
+     */
+    public DifficultyBand getWordBand() {
+        switch (round) {
+            case 1:
+                return DifficultyBand.EASY;
+            case 2:
+                return DifficultyBand.NORMAL;
+            default:
+                return DifficultyBand.HARD;
+        }
+    }
+
     /**
      * 점수에 따라 라운드를 올릴지 여부 체크
      *  - round 1 : 점수 5 이상 → round 2
@@ -19,6 +19,8 @@ public class ScoreManager {
     // 점수 목록 (내림차순 정렬)
     private final List<ScoreEntry> scores = new ArrayList<>();
 
+    private final File file;
+
     /** 싱글톤 인스턴스 얻기 */
     public static synchronized ScoreManager getInstance() {
         if (instance == null) {
@@ -29,6 +31,12 @@ public class ScoreManager {
 
     /** 생성자 : 파일에서 점수 불러오기 */
     private ScoreManager() {
+        this(new File(FILE_NAME));
+    }
+
+    /** 다른 랭킹 파일로 (벤치마크용) */
+    ScoreManager(File file) {
+        this.file = file;
         loadScores();
     }
 
@@ -66,7 +74,7 @@ public class ScoreManager {
     /** ranking.dat에서 점수 불러오기 */
     @SuppressWarnings("unchecked")
     private void loadScores() {
-        File f = new File(FILE_NAME);
+        File f = file;
         if (!f.exists()) {
             return; // 처음 실행이면 파일 없음
         }
@@ -91,11 +99,24 @@ public class ScoreManager {
 
     /** ranking.dat에 점수 저장하기 */
     private void saveScores() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(FILE_NAME))) {
+        GameEvents.ScoresSaved ev = new GameEvents.ScoresSaved();
+        ev.begin();
+        boolean ok = false;
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
             oos.writeObject(scores);
+            ok = true;
         } catch (IOException e) {
             // 디버깅 출력 제거 (실행 흐름 동일)
         }
+
+        ev.end();
+        if (ev.shouldCommit()) {
+            ev.entries = scores.size();
+            ev.bytesWritten = file.length();
+            ev.success = ok;
+            ev.commit();
+        }
     }
 
     /** 하나의 점수 정보 */
@@ -0,0 +1,187 @@
+package zombie_game;
+
+import java.util.Arrays;
+
+/**
+ * 스폰 자리 확인용 1차원 격자 (x 좌표 기준)
+ * - 항목 = (id, x, 차단 반경) → 막힌 구간 [x - 반경 + 1, x + 반경). 이 구간 안이면 새 좀비를 세우지 않는다
+ * - 칸 너비 = 가장 큰 차단 반경, 항목은 막힌 구간의 시작점이 속한 칸에 시작점 순으로 넣어 둠
+ *   → 칸을 왼쪽부터 읽으면 구간이 이미 시작점 순 (randomFreeX에서 정렬 없음)
+ *   → 한 지점 검사는 항상 왼쪽 2칸 + 자기 칸만 보면 됨
+ * - 먼 거리 구간의 좀비만 넣고, 가까워지면 호출 측에서 제거 (거리 구간 관리)
+ * - randomFreeX(): 재시도 없이 빈 자리 중 하나를 균등하게 바로 뽑음
+ * - 동기화 없음 (호출 측에서 보호)
+ */
+public class SpawnGrid {
+
+    private final int cellWidth;
+
+    // 칸별 항목 (막힌 구간 시작 / 끝(제외) / id), 칸 안에서는 시작점 오름차순, 칸은 x가 커지면 늘어남
+    private int[][] cellStarts = new int[0][];
+    private int[][] cellEnds = new int[0][];
+    private int[][] cellIds = new int[0][];
+    private int[] cellCounts = new int[0];
+    private int size = 0;
+
+    /** @param maxRadius 넣을 항목 중 가장 큰 차단 반경 */
+    public SpawnGrid(int maxRadius) {
+        this.cellWidth = Math.max(1, maxRadius);
+    }
+
+    private int cellOf(int x) {
+        return (x < 0) ? 0 : x / cellWidth;
+    }
+
+    private int startOf(int x, int radius) {
+        return x - Math.min(radius, cellWidth) + 1;
+    }
+
+    private void ensureCell(int cell) {
+        if (cell < cellCounts.length) return;
+        int n = Math.max(cell + 1, cellCounts.length * 2);
+        cellStarts = Arrays.copyOf(cellStarts, n);
+        cellEnds = Arrays.copyOf(cellEnds, n);
+        cellIds = Arrays.copyOf(cellIds, n);
+        cellCounts = Arrays.copyOf(cellCounts, n);
+    }
+
+    public void add(int id, int x, int radius) {
+        int r = Math.min(radius, cellWidth);
+        int start = x - r + 1;
+        int c = cellOf(start);
+        ensureCell(c);
+        int n = cellCounts[c];
+        if (cellIds[c] == null) {
+            cellStarts[c] = new int[4];
+            cellEnds[c] = new int[4];
+            cellIds[c] = new int[4];
+        } else if (n == cellIds[c].length) {
+            cellStarts[c] = Arrays.copyOf(cellStarts[c], n * 2);
+            cellEnds[c] = Arrays.copyOf(cellEnds[c], n * 2);
+            cellIds[c] = Arrays.copyOf(cellIds[c], n * 2);
+        }
+        // 시작점 순서 유지 (같은 시작점이면 뒤에)
+        int[] starts = cellStarts[c];
+        int i = upperBound(starts, n, start);
+        System.arraycopy(starts, i, starts, i + 1, n - i);
+        System.arraycopy(cellEnds[c], i, cellEnds[c], i + 1, n - i);
+        System.arraycopy(cellIds[c], i, cellIds[c], i + 1, n - i);
+        starts[i] = start;
+        cellEnds[c][i] = x + r;
+        cellIds[c][i] = id;
+        cellCounts[c] = n + 1;
+        size++;
+    }
+
+    /** (id, x, 반경)으로 넣었던 항목 제거 (칸 안에서 시작점으로 이진 탐색) */
+    public boolean remove(int id, int x, int radius) {
+        int start = startOf(x, radius);
+        int c = cellOf(start);
+        if (c >= cellCounts.length) return false;
+        int n = cellCounts[c];
+        int[] starts = cellStarts[c];
+        int[] ids = cellIds[c];
+        for (int i = lowerBound(starts, n, start); i < n && starts[i] == start; i++) {
+            if (ids[i] == id) {
+                System.arraycopy(starts, i + 1, starts, i, n - i - 1);
+                System.arraycopy(cellEnds[c], i + 1, cellEnds[c], i, n - i - 1);
+                System.arraycopy(ids, i + 1, ids, i, n - i - 1);
+                cellCounts[c] = n - 1;
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** starts[0, n)에서 value 이상인 첫 위치 */
+    private static int lowerBound(int[] starts, int n, int value) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /** starts[0, n)에서 value 초과인 첫 위치 */
+    private static int upperBound(int[] starts, int n, int value) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** x 자리에 새 좀비를 세우면 기존 항목과 너무 가까운지 (시작점이 x - 2 * 칸 너비 초과인 칸만 검사) */
+    public boolean isBlocked(int x) {
+        int from = cellOf(x - 2 * cellWidth + 2);
+        int to = Math.min(cellCounts.length - 1, cellOf(x));
+        for (int k = from; k <= to; k++) {
+            int n = cellCounts[k];
+            int[] starts = cellStarts[k];
+            int[] ends = cellEnds[k];
+            for (int i = 0; i < n && starts[i] <= x; i++) {
+                if (x < ends[i]) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * [minX, maxX) 정수 좌표 중 막히지 않은 자리 하나를 균등하게 선택
+     * - 구간에 걸칠 수 있는 칸을 왼쪽부터 두 번 훑음 (빈 좌표 세기 → pick번째 찾기), 정렬 / 작업 배열 없음
+     * @param u 0 이상 1 미만 난수
+     * @return 빈 자리가 없으면 -1
+     */
+    public int randomFreeX(int minX, int maxX, double u) {
+        if (maxX <= minX) return -1;
+
+        int fromCell = cellOf(minX - 2 * cellWidth + 2);
+        int toCell = Math.min(cellCounts.length - 1, cellOf(maxX - 1));
+
+        // 1) 빈 정수 좌표 개수
+        int free = 0;
+        int cursor = minX;
+        for (int k = fromCell; k <= toCell && cursor < maxX; k++) {
+            int n = cellCounts[k];
+            int[] starts = cellStarts[k];
+            int[] ends = cellEnds[k];
+            for (int i = 0; i < n && cursor < maxX; i++) {
+                if (starts[i] > cursor) free += Math.min(starts[i], maxX) - cursor;
+                cursor = Math.max(cursor, ends[i]);
+            }
+        }
+        if (cursor < maxX) free += maxX - cursor;
+        if (free <= 0) return -1;
+
+        // 2) pick번째 빈 좌표 찾기
+        int pick = (int) (u * free);
+        if (pick >= free) pick = free - 1;
+        cursor = minX;
+        for (int k = fromCell; k <= toCell && cursor < maxX; k++) {
+            int n = cellCounts[k];
+            int[] starts = cellStarts[k];
+            int[] ends = cellEnds[k];
+            for (int i = 0; i < n && cursor < maxX; i++) {
+                if (starts[i] > cursor) {
+                    int gap = Math.min(starts[i], maxX) - cursor;
+                    if (pick < gap) return cursor + pick;
+                    pick -= gap;
+                }
+                cursor = Math.max(cursor, ends[i]);
+            }
+        }
+        return cursor + pick;
+    }
+}
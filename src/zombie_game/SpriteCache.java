@@ -0,0 +1,87 @@
+package zombie_game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 거리(원근) 단계별로 미리 축소해 둔 스프라이트 캐시
+ * - 매 프레임 drawImage(img, x, y, w, h)로 원본 PNG를 다시 축소하지 않도록
+ *   [minScale, maxScale] 구간을 buckets 단계로 나눠 단계별 이미지를 한 번만 만든다
+ * - 만든 이미지는 화면 호환 + premultiplied alpha → 축소 없이 그대로 복사
+ * - 창 크기 변경 / 모니터 이동 시 invalidate()로 비우고 필요할 때 다시 생성
+ */
+public class SpriteCache {
+
+    private final Image source;
+    private final double minScale;
+    private final double maxScale;
+    private final int buckets;
+
+    // 단계별 축소 이미지 (필요할 때 생성, invalidate 시 배열째 교체)
+    private volatile Image[] scaled;
+
+    public SpriteCache(Image source, double minScale, double maxScale, int buckets) {
+        this.source = source;
+        this.minScale = minScale;
+        this.maxScale = maxScale;
+        this.buckets = Math.max(2, buckets);
+        this.scaled = new Image[this.buckets];
+    }
+
+    /** 캐시 전체 비우기 */
+    public void invalidate() {
+        scaled = new Image[buckets];
+    }
+
+    /** scale에 가장 가까운 단계의 축소 이미지 (원본이 아직 로드 안 됐으면 null) */
+    public Image get(double scale, GraphicsConfiguration gc) {
+        int bucket = bucketOf(scale);
+        Image[] cache = scaled;
+        Image img = cache[bucket];
+        if (img == null) {
+            img = render(scaleOf(bucket), gc);
+            cache[bucket] = img;
+        }
+        return img;
+    }
+
+    private int bucketOf(double scale) {
+        double t = (scale - minScale) / (maxScale - minScale);
+        if (t < 0) t = 0;
+        if (t > 1) t = 1;
+        return (int) Math.round(t * (buckets - 1));
+    }
+
+    private double scaleOf(int bucket) {
+        return minScale + (maxScale - minScale) * bucket / (buckets - 1);
+    }
+
+    private Image render(double scale, GraphicsConfiguration gc) {
+        int iw = source.getWidth(null);
+        int ih = source.getHeight(null);
+        if (iw <= 0 || ih <= 0) return null;
+
+        int w = Math.max(1, (int) (iw * scale));
+        int h = Math.max(1, (int) (ih * scale));
+
+        BufferedImage img = null;
+        if (gc != null) {
+            img = gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+            if (!img.isAlphaPremultiplied()) img = null;
+        }
+        if (img == null) {
+            img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        Graphics2D g2d = img.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, 0, 0, w, h, null);
+        } finally {
+            g2d.dispose();
+        }
+        return img;
+    }
+}
@@ -0,0 +1,74 @@
+package zombie_game;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 테스트(호드) 모드 설정 + 결과 기록
+ * - -Dzombie.stress=<좀비 수>           켜기 (유지할 좀비 수)
+ * - -Dzombie.stress.spawnPerTick=<n>  틱마다 채워 넣는 최대 좀비 수 (기본 50)
+ * - -Dzombie.stress.bullets=<n>       초당 자동 발사 총알 수 (기본 200)
+ * - -Dzombie.stress.csv=<파일>         결과 CSV (기본 stress.csv)
+ * - 1초마다 틱 / 그리기 시간 p50·p99와 개체 수를 한 줄씩 모아 두었다가 끝날 때 CSV로 저장
+ */
+public class StressMode {
+
+    public final int zombies;
+    public final int spawnPerTick;
+    public final int bulletsPerSecond;
+    public final String csvPath;
+
+    private final List<String> rows = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private long lastSampleNanos = startNanos;
+    private boolean written = false;
+
+    private StressMode(int zombies, int spawnPerTick, int bulletsPerSecond, String csvPath) {
+        this.zombies = zombies;
+        this.spawnPerTick = spawnPerTick;
+        this.bulletsPerSecond = bulletsPerSecond;
+        this.csvPath = csvPath;
+    }
+
+    /** 시스템 속성으로 켜졌으면 설정, 아니면 null */
+    public static StressMode fromProperties() {
+        int zombies = Integer.getInteger("zombie.stress", 0);
+        if (zombies <= 0) return null;
+        return new StressMode(zombies,
+                Integer.getInteger("zombie.stress.spawnPerTick", 50),
+                Integer.getInteger("zombie.stress.bullets", 200),
+                System.getProperty("zombie.stress.csv", "stress.csv"));
+    }
+
+    /** 1초가 지났으면 한 줄 기록 */
+    public synchronized void sample(int entities, int bullets, TimingStats tick, TimingStats paint) {
+        long now = System.nanoTime();
+        if (now - lastSampleNanos < 1_000_000_000L) return;
+        lastSampleNanos = now;
+
+        rows.add(String.format(Locale.ROOT, "%.1f,%d,%d,%.3f,%.3f,%.3f,%.3f",
+                (now - startNanos) / 1e9, entities, bullets,
+                tick.percentileMs(50), tick.percentileMs(99),
+                paint.percentileMs(50), paint.percentileMs(99)));
+    }
+
+    /** CSV 저장 (한 번만) */
+    public synchronized void writeCsv() {
+        if (written) return;
+        written = true;
+        try (BufferedWriter bw = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(csvPath), StandardCharsets.UTF_8))) {
+            bw.write("seconds,entities,bullets,tick_p50_ms,tick_p99_ms,paint_p50_ms,paint_p99_ms");
+            bw.newLine();
+            for (String row : rows) {
+                bw.write(row);
+                bw.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("부하 테스트 결과 저장 실패: " + csvPath + " (" + e.getMessage() + ")");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package zombie_game;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개 측정값(나노초)의 평균 / 백분위수
+ * - 고리 버퍼에 덮어쓰며 저장 → 측정마다 할당 없음
+ * - 백분위수는 읽을 때만 정렬 (화면 표시 / CSV 기록 주기로만 호출)
+ * - 측정 스레드와 읽는 스레드가 다르므로 synchronized
+ */
+public class TimingStats {
+
+    private final long[] samples;
+    private final long[] sorted;
+    private int count = 0;
+    private int next = 0;
+    private long total = 0;     // 전체 누적 개수
+
+    public TimingStats(int window) {
+        samples = new long[window];
+        sorted = new long[window];
+    }
+
+    public synchronized void add(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+        total++;
+    }
+
+    public synchronized void clear() {
+        count = 0;
+        next = 0;
+        total = 0;
+    }
+
+    /** 지금까지 넣은 전체 개수 */
+    public synchronized long getTotal() { return total; }
+
+    /** 창 안 평균 (밀리초) */
+    public synchronized double averageMs() {
+        if (count == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < count; i++) sum += samples[i];
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    /** 창 안 p 백분위수 (0~100, 밀리초) */
+    public synchronized double percentileMs(double p) {
+        if (count == 0) return 0;
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int idx = (int) Math.ceil(p / 100.0 * count) - 1;
+        if (idx < 0) idx = 0;
+        if (idx >= count) idx = count - 1;
+        return sorted[idx] / 1_000_000.0;
+    }
+
+    /** 창 안 최댓값 (밀리초) */
+    public synchronized double maxMs() {
+        long max = 0;
+        for (int i = 0; i < count; i++) max = Math.max(max, samples[i]);
+        return max / 1_000_000.0;
+    }
+}
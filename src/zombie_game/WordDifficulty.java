@@ -0,0 +1,100 @@
+package zombie_game;
+
+import java.util.Arrays;
+
+/**
+ * 단어 난이도 계산 (단어 1개씩, 목록 전체를 다시 훑지 않음)
+ * - 글자 수: 코드 포인트 수 (한글은 음절 수)
+ * - 자모 수: HangulJamo 자모열 길이 (두벌식 타자 수와 거의 같음)
+ * - 손 이동 거리: 두벌식 자판에서 자모(영문은 같은 자리 글쇠)를 차례로 누를 때
+ *   글쇠 사이 거리의 합 (글쇠 1칸 = 1, 줄마다 반 칸 정도 엇갈림)
+ * - 점수 = 자모 수 + 이동 거리 / 2 + 글자 수 → 구간으로 DifficultyBand 결정
+ */
+public final class WordDifficulty {
+
+    // 두벌식 글쇠 위치 (QWERTY 같은 자리), 위 / 가운데 / 아래 줄
+    private static final String[] ROWS_KO = {"ㅂㅈㄷㄱㅅㅛㅕㅑㅐㅔ", "ㅁㄴㅇㄹㅎㅗㅓㅏㅣ", "ㅋㅌㅊㅍㅠㅜㅡ"};
+    private static final String[] ROWS_KO_SHIFT = {"ㅃㅉㄸㄲㅆ  ㅒㅖ", "", ""};
+    private static final String[] ROWS_EN = {"qwertyuiop", "asdfghjkl", "zxcvbnm"};
+    private static final double[] ROW_OFFSET = {0.0, 0.25, 0.75};
+
+    // 글자 → 글쇠 위치 (줄 * 16 + 칸, 없으면 -1), 호환 자모 구간과 ASCII만 표로 둠
+    private static final char JAMO_FIRST = '\u3131', JAMO_LAST = '\u318E';
+    private static final byte[] JAMO_POS = new byte[JAMO_LAST - JAMO_FIRST + 1];
+    private static final byte[] ASCII_POS = new byte[128];
+
+    static {
+        Arrays.fill(JAMO_POS, (byte) -1);
+        Arrays.fill(ASCII_POS, (byte) -1);
+        for (int row = 0; row < 3; row++) {
+            fill(ROWS_KO[row], row);
+            fill(ROWS_KO_SHIFT[row], row);
+            for (int col = 0; col < ROWS_EN[row].length(); col++) {
+                char c = ROWS_EN[row].charAt(col);
+                ASCII_POS[c] = (byte) (row * 16 + col);
+                ASCII_POS[Character.toUpperCase(c)] = (byte) (row * 16 + col);
+            }
+        }
+    }
+
+    private static void fill(String keys, int row) {
+        for (int col = 0; col < keys.length(); col++) {
+            char c = keys.charAt(col);
+            if (c != ' ') JAMO_POS[c - JAMO_FIRST] = (byte) (row * 16 + col);
+        }
+    }
+
+    // 점수 구간 (words.txt 분포 기준 대략 1/3씩)
+    private static final double NORMAL_FROM = 15.5;
+    private static final double HARD_FROM = 20.5;
+
+    private WordDifficulty() {}
+
+    /** 글자 수 (코드 포인트) */
+    public static int syllables(String word) {
+        return word.codePointCount(0, word.length());
+    }
+
+    /** 자모 수 */
+    public static int jamoCount(String word) {
+        return HangulJamo.key(word).length();
+    }
+
+    /** 두벌식 손 이동 거리 (글쇠 칸 단위, 자판에 없는 글자는 건너뜀) */
+    public static double keyboardTravel(String word) {
+        String keys = HangulJamo.key(word);
+        double total = 0;
+        double px = Double.NaN, py = 0;
+        for (int i = 0; i < keys.length(); i++) {
+            int pos = keyPosition(keys.charAt(i));
+            if (pos < 0) continue;
+            int row = pos / 16, col = pos % 16;
+            double x = col + ROW_OFFSET[row];
+            double y = row;
+            if (!Double.isNaN(px)) total += Math.hypot(x - px, y - py);
+            px = x;
+            py = y;
+        }
+        return total;
+    }
+
+    /** 난이도 점수 */
+    public static double score(String word) {
+        return jamoCount(word) + keyboardTravel(word) / 2.0 + syllables(word);
+    }
+
+    /** 난이도 구간 */
+    public static DifficultyBand band(String word) {
+        double s = score(word);
+        if (s >= HARD_FROM) return DifficultyBand.HARD;
+        if (s >= NORMAL_FROM) return DifficultyBand.NORMAL;
+        return DifficultyBand.EASY;
+    }
+
+    /** 글쇠 위치 (줄 * 16 + 칸), 없으면 -1 */
+    private static int keyPosition(char c) {
+        if (c < ASCII_POS.length) return ASCII_POS[c];
+        if (c >= JAMO_FIRST && c <= JAMO_LAST) return JAMO_POS[c - JAMO_FIRST];
+        return -1;
+    }
+}
@@ -0,0 +1,373 @@
+package zombie_game;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 단어 목록 파일 저장 (스냅샷 + 추가 전용 저널)
+ * - words.txt = 스냅샷 (한 줄에 단어 1개, 첫 줄 "#gen=N"은 어느 저널까지 반영됐는지 표시, 없으면 0)
+ * - words.txt.journal = 스냅샷 이후 바뀐 내용 ("+\t단어" 추가 / "-\t단어" 삭제), 첫 줄 "#gen=N"
+ *   → 단어 1개를 고쳐도 파일 끝에 한 줄만 덧붙임 (전체 다시 쓰기 없음)
+ * - 압축: 저널을 words.txt.journal.N 으로 넘기고 새 저널을 연 뒤, 백그라운드에서
+ *   스냅샷을 임시 파일에 쓰고 원자적 이름 바꾸기로 교체 → 다 되면 옛 저널 삭제
+ * - 시작: 스냅샷을 읽고 세대가 같거나 새로운 저널만 차례로 다시 적용
+ *   (어느 단계에서 프로세스가 죽어도 같은 기록이 두 번 적용되지 않음)
+ * - 저널의 마지막 줄이 중간에 잘렸으면 버림 (줄바꿈까지 써진 기록만 유효)
+ * - 스냅샷 옆에 최신 단어 팩(words.pack)이 있으면 텍스트 대신 팩을 그대로 넘김 (WordPack 참고),
+ *   압축할 때 팩도 함께 다시 만듦
+ * - 동기화: WordManager가 잠근 상태에서 호출, 압축 스레드와는 이 객체로 동기화
+ */
+public class WordJournal {
+
+    /** 저널 재생 대상 */
+    public interface Target {
+        void add(String word);
+        void remove(String word);
+
+        /** 스냅샷 전체 (단어 팩이면 디코딩 전 읽기 전용 목록) */
+        default void addAll(List<String> words) {
+            for (String w : words) add(w);
+        }
+    }
+
+    static final String GEN_HEADER = "#gen=";
+    private static final int COMPACT_MIN_RECORDS = 256;
+
+    private final Path base;
+    private final Path journal;
+    private final Path tmp;
+
+    private long generation = 0;      // 지금 쓰는 저널 세대 (스냅샷 세대 이상)
+    private BufferedWriter out;       // 지금 저널 (처음 쓸 때 엶)
+    private int records = 0;          // 지금 저널 기록 수
+    private boolean compacting = false;
+
+    public WordJournal(File baseFile) {
+        this.base = baseFile.toPath();
+        this.journal = Paths.get(base + ".journal");
+        this.tmp = Paths.get(base + ".tmp");
+    }
+
+    // ---------------- 시작 ----------------
+
+    /** 스냅샷 + 저널을 읽어 target에 채움 */
+    public synchronized void load(Target target) {
+        try { Files.deleteIfExists(tmp); } catch (IOException ignored) {}
+
+        long snapshotGen = readSnapshot(target);
+        generation = snapshotGen;
+        records = 0;
+
+        // 넘겨 둔 옛 저널 (압축 도중 종료) → 세대 순서대로
+        TreeMap<Long, Path> rotated = rotatedJournals();
+        for (Map.Entry<Long, Path> e : rotated.entrySet()) {
+            if (e.getKey() < snapshotGen) {
+                deleteQuietly(e.getValue());   // 이미 스냅샷에 반영됨
+            } else {
+                records += replay(e.getValue(), target);
+            }
+        }
+
+        if (Files.exists(journal)) {
+            long gen = readGeneration(journal);
+            if (gen >= snapshotGen) {
+                records += replay(journal, target);
+                generation = gen;
+            } else {
+                deleteQuietly(journal);
+            }
+        }
+    }
+
+    private long readSnapshot(Target target) {
+        if (!Files.exists(base)) return 0;
+
+        WordPack pack = WordPack.openFor(base.toFile());
+        if (pack != null) {
+            target.addAll(pack.asList());
+            return pack.getGeneration();
+        }
+
+        List<String> words = new ArrayList<>();
+        long gen = 0;
+        try {
+            gen = WordPack.readText(base.toFile(), words);
+        } catch (IOException e) {
+            // 디버깅 출력 제거 (실행 흐름 동일)
+        }
+        target.addAll(words);
+        return gen;
+    }
+
+    /** 저널 1개 다시 적용 (완전한 줄만), 적용한 기록 수 반환 */
+    private int replay(Path file, Target target) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            return 0;
+        }
+        int end = lastNewline(bytes) + 1;   // 잘린 마지막 줄 제외
+        String text = new String(bytes, 0, end, StandardCharsets.UTF_8);
+
+        int n = 0;
+        for (String line : text.split("\n")) {
+            if (line.length() < 3 || line.charAt(1) != '\t') continue;   // 머리줄 / 빈 줄
+            String w = line.substring(2);
+            if (line.charAt(0) == '+') { target.add(w); n++; }
+            else if (line.charAt(0) == '-') { target.remove(w); n++; }
+        }
+        return n;
+    }
+
+    // ---------------- 기록 ----------------
+
+    /** 추가 기록 1개 */
+    public synchronized void appendAdd(String word) throws IOException {
+        append('+', Collections.singletonList(word));
+    }
+
+    /** 삭제 기록 1개 */
+    public synchronized void appendRemove(String word) throws IOException {
+        append('-', Collections.singletonList(word));
+    }
+
+    /** 같은 종류 기록 여러 개 (한 번만 flush) */
+    public synchronized void appendAll(char op, Collection<String> words) throws IOException {
+        append(op, words);
+    }
+
+    /**
+     * 기록 덧붙이기
+     * - 실패하면 이번에 쓴 부분을 잘라 내고 IOException → 호출 측은 메모리 목록을 바꾸지 않음
+     *   (다음 시작 때 일부 기록만 다시 적용되지 않음)
+     */
+    private void append(char op, Collection<String> words) throws IOException {
+        if (words.isEmpty()) return;
+        long before = -1;
+        try {
+            BufferedWriter w = writer();
+            before = Files.size(journal);   // 앞 기록은 모두 flush됨 (새 저널이면 머리줄은 아직 버퍼에)
+            for (String word : words) {
+                w.write(op);
+                w.write('\t');
+                w.write(word);
+                w.write('\n');
+            }
+            // 프로세스가 죽어도 남도록 OS까지 넘김 (전원 차단 대비 fsync는 압축 스냅샷에서만)
+            w.flush();
+            records += words.size();
+        } catch (IOException e) {
+            closeQuietly();
+            if (before >= 0) truncateQuietly(journal, before);
+            throw e;
+        }
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (out != null) return out;
+
+        long keep = 0;
+        if (Files.exists(journal)) {
+            // 잘린 마지막 줄이 있으면 잘라 내고 그 뒤에 이어 씀
+            try (FileChannel ch = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                keep = completeLength(ch);
+                if (keep < ch.size()) ch.truncate(keep);
+            }
+        }
+
+        if (keep > 0) {
+            out = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(journal.toFile(), true), StandardCharsets.UTF_8));
+        } else {
+            // 새 저널 (머리줄까지 잘린 파일도 새로 씀)
+            out = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(journal.toFile(), false), StandardCharsets.UTF_8));
+            out.write(GEN_HEADER + generation + "\n");
+        }
+        return out;
+    }
+
+    // ---------------- 압축 ----------------
+
+    /** 저널이 충분히 커졌는지 (압축 중이 아니고 기록 수 ≥ compactionThreshold) */
+    public synchronized boolean needsCompaction(int wordCount) {
+        return !compacting && records >= compactionThreshold(wordCount);
+    }
+
+    /**
+     * 압축할 저널 기록 수: max(256, 지금 단어 수 / 2)
+     * - 지금 단어 수에는 저널로 추가한 단어도 들어 있음 → 추가만 했다면 스냅샷 단어 수만큼 쌓였을 때
+     *   (지금 단어 수 자체를 기준으로 하면 추가만으로는 영영 닿지 않음)
+     */
+    static int compactionThreshold(int wordCount) {
+        return Math.max(COMPACT_MIN_RECORDS, wordCount / 2);
+    }
+
+    /** 백그라운드 스냅샷 기록 중인지 (테스트용) */
+    synchronized boolean isCompacting() {
+        return compacting;
+    }
+
+    /**
+     * 압축 시작: 지금 저널을 넘기고 새 저널로 바꾼 뒤 snapshot을 백그라운드에서 기록
+     * @param snapshot 지금 단어 목록 (바뀌지 않는 스냅샷이어야 함)
+     */
+    public synchronized void compact(List<String> snapshot) {
+        if (compacting) return;
+
+        long oldGen = generation;
+        closeQuietly();
+        if (Files.exists(journal)) {
+            try {
+                Files.move(journal, rotatedPath(oldGen), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                return;   // 넘기지 못하면 이번 압축은 포기 (기존 저널 계속 사용)
+            }
+        }
+        generation = oldGen + 1;
+        records = 0;
+        compacting = true;
+
+        long snapshotGen = generation;
+        GameScheduler.background().after(0, () -> writeSnapshot(snapshot, snapshotGen));
+    }
+
+    private void writeSnapshot(List<String> snapshot, long snapshotGen) {
+        GameEvents.WordsSaved ev = new GameEvents.WordsSaved();
+        ev.begin();
+        boolean ok = false;
+
+        try {
+            try (FileOutputStream fos = new FileOutputStream(tmp.toFile());
+                 BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(fos, StandardCharsets.UTF_8))) {
+                bw.write(GEN_HEADER + snapshotGen);
+                bw.newLine();
+                for (String w : snapshot) {
+                    bw.write(w);
+                    bw.newLine();
+                }
+                bw.flush();
+                fos.getFD().sync();
+            }
+            try {
+                Files.move(tmp, base, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, base, StandardCopyOption.REPLACE_EXISTING);
+            }
+            ok = true;
+
+            // 팩도 새 스냅샷 기준으로 (실패하면 옛 팩은 크기 / 시각이 달라 무시됨)
+            try {
+                WordPack.write(snapshot, snapshotGen, base.toFile(), WordPack.pathFor(base.toFile()));
+            } catch (IOException ignored) {
+                // 매핑 중인 팩을 바꿀 수 없는 OS(Windows)에서는 다음 압축 / 변환 때 다시 만듦
+            }
+
+            // 새 스냅샷에 반영된 옛 저널 정리
+            for (Map.Entry<Long, Path> e : rotatedJournals().entrySet()) {
+                if (e.getKey() < snapshotGen) deleteQuietly(e.getValue());
+            }
+        } catch (IOException e) {
+            // 디버깅 출력 제거 (실행 흐름 동일), 옛 저널이 남아 있으므로 다음 시작 때 다시 적용됨
+            deleteQuietly(tmp);
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+        }
+
+        ev.end();
+        if (ev.shouldCommit()) {
+            ev.words = snapshot.size();
+            ev.bytesWritten = ok ? base.toFile().length() : 0;
+            ev.success = ok;
+            ev.commit();
+        }
+    }
+
+    // ---------------- 파일 도우미 ----------------
+
+    private Path rotatedPath(long gen) {
+        return Paths.get(journal + "." + gen);
+    }
+
+    /** words.txt.journal.N 파일들 (세대 순) */
+    private TreeMap<Long, Path> rotatedJournals() {
+        TreeMap<Long, Path> result = new TreeMap<>();
+        Path dir = journal.toAbsolutePath().getParent();
+        String prefix = journal.getFileName() + ".";
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, prefix + "*")) {
+            for (Path p : ds) {
+                try {
+                    result.put(Long.parseLong(p.getFileName().toString().substring(prefix.length())), p);
+                } catch (NumberFormatException ignored) {}
+            }
+        } catch (IOException ignored) {}
+        return result;
+    }
+
+    private static long readGeneration(Path file) {
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String first = br.readLine();
+            return (first != null && first.startsWith(GEN_HEADER)) ? parseGeneration(first) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    static long parseGeneration(String line) {
+        try {
+            return Long.parseLong(line.substring(GEN_HEADER.length()).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int lastNewline(byte[] bytes) {
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') return i;
+        }
+        return -1;
+    }
+
+    /** 마지막 줄바꿈까지의 길이 (뒤에서부터 찾음) */
+    private static long completeLength(FileChannel ch) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long pos = ch.size();
+        while (pos > 0) {
+            int len = (int) Math.min(buf.capacity(), pos);
+            pos -= len;
+            buf.clear().limit(len);
+            while (buf.hasRemaining()) {
+                if (ch.read(buf, pos + buf.position()) < 0) break;
+            }
+            for (int i = len - 1; i >= 0; i--) {
+                if (buf.get(i) == '\n') return pos + i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private void closeQuietly() {
+        if (out == null) return;
+        try { out.close(); } catch (IOException ignored) {}
+        out = null;
+    }
+
+    private static void truncateQuietly(Path p, long size) {
+        try (FileChannel ch = FileChannel.open(p, StandardOpenOption.WRITE)) {
+            if (size < ch.size()) ch.truncate(size);
+        } catch (IOException ignored) {
+            // 자르지도 못하면 다음에 열 때 잘린 마지막 줄만 버려짐
+        }
+    }
+
+    private static void deleteQuietly(Path p) {
+        try { Files.deleteIfExists(p); } catch (IOException ignored) {}
+    }
+}
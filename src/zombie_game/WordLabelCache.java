@@ -0,0 +1,131 @@
+package zombie_game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 좀비 / 보스 머리 위 단어 라벨 캐시
+ * - (단어, 글꼴 크기)마다 그림자 + 본문 글자를 반투명 이미지 1장에 한 번만 그려 둔다
+ * - 매 프레임 drawString 2~3번 + stringWidth 대신 이미지 1번 복사
+ * - 단어 기준 LRU (오래 안 쓴 단어부터 제거)
+ */
+public class WordLabelCache {
+
+    private static final int MAX_FONT_SIZE = 128;
+    private static final int PAD = 3;   // 그림자가 잘리지 않도록 둘레 여백
+
+    private final String fontName;
+    private final int fontStyle;
+    private final Color textColor;
+    private final Color shadowColor;
+    private final int[][] shadowOffsets;   // {dx, dy} 목록
+
+    // 단어 → [글꼴 크기] 라벨 (접근 순서 LinkedHashMap = LRU)
+    private final LinkedHashMap<String, Label[]> labels;
+
+    /** 미리 그려 둔 라벨 1개 */
+    public static final class Label {
+        final BufferedImage image;
+        final int textWidth;
+        final int ascent;
+
+        Label(BufferedImage image, int textWidth, int ascent) {
+            this.image = image;
+            this.textWidth = textWidth;
+            this.ascent = ascent;
+        }
+
+        /** drawString(word, x, baselineY) 와 같은 위치에 그림 */
+        public void draw(Graphics2D g2d, int x, int baselineY) {
+            g2d.drawImage(image, x - PAD, baselineY - ascent - PAD, null);
+        }
+
+        public int getTextWidth() { return textWidth; }
+    }
+
+    public WordLabelCache(String fontName, int fontStyle, Color textColor,
+                          Color shadowColor, int[][] shadowOffsets, final int maxWords) {
+        this.fontName = fontName;
+        this.fontStyle = fontStyle;
+        this.textColor = textColor;
+        this.shadowColor = shadowColor;
+        this.shadowOffsets = shadowOffsets;
+        this.labels = new LinkedHashMap<String, Label[]>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Label[]> eldest) {
+                return size() > maxWords;
+            }
+        };
+    }
+
+    /** (word, fontSize) 라벨 (없으면 이번에 한 번 그림) */
+    public synchronized Label get(String word, int fontSize) {
+        if (fontSize < 1) fontSize = 1;
+        if (fontSize > MAX_FONT_SIZE) fontSize = MAX_FONT_SIZE;
+
+        Label[] bySize = labels.get(word);
+        if (bySize == null) {
+            bySize = new Label[MAX_FONT_SIZE + 1];
+            labels.put(word, bySize);
+        }
+        Label label = bySize[fontSize];
+        if (label == null) {
+            label = render(word, fontSize);
+            bySize[fontSize] = label;
+        }
+        return label;
+    }
+
+    public synchronized void clear() {
+        labels.clear();
+    }
+
+    public synchronized int size() {
+        return labels.size();
+    }
+
+    private Label render(String word, int fontSize) {
+        Font font = RenderResources.getInstance().font(fontName, fontStyle, fontSize);
+
+        // 크기 측정용 임시 그래픽스
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D mg = scratch.createGraphics();
+        applyHints(mg);
+        FontMetrics fm = mg.getFontMetrics(font);
+        int textWidth = fm.stringWidth(word);
+        int ascent = fm.getAscent();
+        int descent = fm.getDescent();
+        mg.dispose();
+
+        BufferedImage img = new BufferedImage(
+                Math.max(1, textWidth + PAD * 2),
+                Math.max(1, ascent + descent + PAD * 2),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+
+        Graphics2D g2d = img.createGraphics();
+        try {
+            applyHints(g2d);
+            g2d.setFont(font);
+            int x = PAD;
+            int y = PAD + ascent;
+
+            g2d.setColor(shadowColor);
+            for (int[] o : shadowOffsets) {
+                g2d.drawString(word, x + o[0], y + o[1]);
+            }
+            g2d.setColor(textColor);
+            g2d.drawString(word, x, y);
+        } finally {
+            g2d.dispose();
+        }
+        return new Label(img, textWidth, ascent);
+    }
+
+    /** 잰 폭과 그린 글자가 같도록 측정 / 그리기 모두 같은 힌트 사용 */
+    private static void applyHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+}
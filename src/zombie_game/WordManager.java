@@ -1,116 +1,429 @@
 package zombie_game;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * WordManager
- * - word.txt에서 단어 읽기
- * - 단어 추가/삭제
- * - 전체 단어 리스트 반환
- * - 랜덤 단어 제공
+ * - word.txt에서 단어 읽기 (스냅샷 + 변경 저널, WordJournal 참고)
+ *   최신 단어 팩(words.pack)이 있으면 매핑만 하고 단어는 뽑힐 때 디코딩 (WordPack 참고)
+ * - 단어 추가/삭제 (저널에 한 줄씩 덧붙임, 저널이 커지면 백그라운드 압축)
+ *   저널에 먼저 쓰고 성공해야 목록을 바꿈 → 저장 실패는 IOException, 메모리 목록도 그대로
+ * - 전체 단어 리스트 반환 (복사 없는 읽기 전용 목록)
+ * - 랜덤 단어 제공 (전체 / 난이도 구간별, DifficultyBand)
  * - 싱글톤 패턴
+ * - 읽기는 잠그지 않음: 단어 목록은 바뀌지 않는 스냅샷을 volatile로 발행 (쓰기끼리만 synchronized)
+ *   추가: 배열 여유 칸(지금 스냅샷 크기 뒤)에 써서 크기만 늘린 스냅샷 발행 → 분할 상환 O(추가 수)
+ *   삭제: 뒤쪽 단어 번호가 당겨지므로 한 번 훑어 새 배열로 (O(n), 단어 편집은 드문 UI 동작이라 감수)
+ * - 난이도 구간별 단어 번호 목록을 스냅샷과 함께 들고 있음
+ *   → 구간별 뽑기 O(1), 추가/삭제 때는 바뀐 단어만 난이도를 계산 (전체 다시 계산 없음)
+ * - 정규화 키(NFC + 대소문자 접기) 해시 색인: 있는지 확인 / 삭제 대상 찾기 O(1), 중복 추가 거부
+ *   (쓰기 쪽 전용, 처음 확인 / 편집할 때 만듦 → 팩 단어는 편집 전까지 디코딩하지 않음)
  */
 public class WordManager {
 
-    private static WordManager instance;
-    private final List<String> words = new ArrayList<>();
-
     private static final String WORD_FILE = "words.txt";
 
+    /** 처음 쓸 때 만들어지는 싱글톤 (getInstance에 잠금 없음) */
+    private static final class Holder {
+        static final WordManager INSTANCE = new WordManager();
+    }
+
+    private static final DifficultyBand[] BANDS = DifficultyBand.values();
+
+    /**
+     * 한 번에 발행하는 스냅샷 (보이는 범위는 만든 뒤 절대 수정하지 않음)
+     * - all: 팩 보기 또는 array 앞 all.size()칸 보기
+     * - array: all 밑의 배열 (팩 보기면 null), all.size() 뒤 칸은 다음 추가가 씀
+     * - band[i]: all.get(i)의 난이도 구간 순서값 (쓰기 쪽 전용, 길이 ≥ 단어 수)
+     * - buckets[b][0, bucketSizes[b]): 구간 b에 속한 단어 번호 (all 기준, 오름차순)
+     * 배열은 다음 스냅샷과 공유될 수 있지만, 새 스냅샷은 이전 크기 뒤 칸에만 쓰므로 이 스냅샷이 읽는 칸은 그대로
+     */
+    private static final class Words {
+        final List<String> all;
+        final String[] array;
+        final byte[] band;
+        final int[][] buckets;
+        final int[] bucketSizes;
+
+        Words(List<String> all, String[] array, byte[] band, int[][] buckets, int[] bucketSizes) {
+            this.all = all;
+            this.array = array;
+            this.band = band;
+            this.buckets = buckets;
+            this.bucketSizes = bucketSizes;
+        }
+
+        /** 구간 순서값 배열로 구간별 번호 목록 만들기 (불러올 때) */
+        static Words of(List<String> all, String[] array, byte[] band) {
+            int[] counts = new int[BANDS.length];
+            for (byte b : band) counts[b]++;
+            int[][] buckets = new int[BANDS.length][];
+            for (int b = 0; b < buckets.length; b++) buckets[b] = new int[counts[b]];
+            int[] fill = new int[BANDS.length];
+            for (int i = 0; i < band.length; i++) buckets[band[i]][fill[band[i]]++] = i;
+            return new Words(all, array, band, buckets, fill);
+        }
+    }
+
+    private volatile Words words = Words.of(Collections.emptyList(), null, new byte[0]);
+
+    private final WordJournal journal;
+
+    // 정규화 키 색인 (this로 잠근 상태에서만 사용, 아직 안 만들었으면 null)
+    private Set<String> index;        // 목록에 있는 키
+    private ArrayList<String> keys;   // keys.get(i) = key(words.all.get(i))
+
     /** 싱글톤 인스턴스 */
-    public static synchronized WordManager getInstance() {
-        if (instance == null) instance = new WordManager();
-        return instance;
+    public static WordManager getInstance() {
+        return Holder.INSTANCE;
     }
 
     /** 생성자: word.txt 로딩만 수행 */
     private WordManager() {
+        this(new File(WORD_FILE));
+    }
+
+    /** 다른 단어 파일로 (테스트용) */
+    WordManager(File wordFile) {
+        journal = new WordJournal(wordFile);
         loadWordsFromFile();
     }
 
     // ----------------------------------------------------
-    // word.txt 읽기
+    // word.txt 읽기 (스냅샷 + 저널 다시 적용)
     // ----------------------------------------------------
-    private void loadWordsFromFile() {
-        words.clear();
-        File file = new File(WORD_FILE);
+    private synchronized void loadWordsFromFile() {
+        Loader loader = new Loader();
+        journal.load(loader);
+        loader.flush();
+        index = null;
+        keys = null;
+
+        if (loader.copy == null) words = Words.of(loader.view, null, bandsOf(loader.view));   // 팩 목록은 복사 없이 그대로
+        else {
+            String[] array = loader.copy.toArray(new String[0]);
+            byte[] band = new byte[array.length];
+            for (int i = 0; i < array.length; i++) band[i] = bandOf(array[i]);
+            words = Words.of(asList(array, array.length), array, band);
+        }
+        compactIfNeeded();
+    }
+
+    /** 처음 불러올 때 난이도 구간 (팩에 구간 열이 있으면 단어를 디코딩하지 않고 그대로 씀) */
+    private static byte[] bandsOf(List<String> list) {
+        WordPack pack = WordPack.of(list);
+        byte[] band = new byte[list.size()];
+        for (int i = 0; i < band.length; i++) {
+            int b = (pack != null) ? pack.band(i) : -1;
+            band[i] = (b >= 0 && b < BANDS.length) ? (byte) b : bandOf(list.get(i));
+        }
+        return band;
+    }
+
+    private static byte bandOf(String word) {
+        return (byte) WordDifficulty.band(word).ordinal();
+    }
+
+    /**
+     * 불러오기: 스냅샷만 있으면 그 목록 그대로, 저널 기록이 있으면 그때 복사해 적용
+     * - 삭제 기록은 모아 두었다가 한 번에 걸러냄 (같은 단어가 다시 추가되기 전, 또는 끝에서)
+     */
+    private static final class Loader implements WordJournal.Target {
+        List<String> view = Collections.emptyList();
+        List<String> copy;
+        private final Set<String> removed = new HashSet<>();
+
+        private List<String> copy() {
+            if (copy == null) copy = new ArrayList<>(view);
+            return copy;
+        }
 
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+        @Override public void add(String word) {
+            if (removed.contains(key(word))) flush();
+            copy().add(word);
+        }
 
-            String line;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (!line.isEmpty()) {
-                    words.add(line);
-                }
-            }
+        @Override public void remove(String word) { removed.add(key(word)); }
 
-        } catch (Exception e) {
-            // 디버깅 출력 제거 (실행 흐름 동일)
+        @Override public void addAll(List<String> list) {
+            flush();
+            if (copy == null && view.isEmpty()) view = list;
+            else copy().addAll(list);
+        }
+
+        void flush() {
+            if (removed.isEmpty()) return;
+            copy().removeIf(w -> removed.contains(key(w)));
+            removed.clear();
         }
     }
 
-    // ----------------------------------------------------
-    // word.txt 저장하기
-    // ----------------------------------------------------
-    private void saveWordsToFile() {
-        try (BufferedWriter bw = new BufferedWriter(
-                new OutputStreamWriter(new FileOutputStream(WORD_FILE), StandardCharsets.UTF_8))) {
+    /** 비교용 정규화 키: NFC + 대소문자 접기 (바뀔 게 없으면 같은 String 그대로) */
+    static String key(String word) {
+        if (!Normalizer.isNormalized(word, Normalizer.Form.NFC)) {
+            word = Normalizer.normalize(word, Normalizer.Form.NFC);
+        }
+        return word.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /** 색인이 없으면 지금 목록으로 만듦 (잠근 상태) */
+    private void ensureIndex() {
+        if (index != null) return;
+        List<String> all = words.all;
+        index = new HashSet<>(Math.max(16, all.size() * 2));
+        keys = new ArrayList<>(all.size());
+        for (String w : all) {
+            String k = key(w);
+            keys.add(k);
+            index.add(k);   // 파일에 원래 있던 중복은 그대로 둠 (삭제하면 함께 지워짐)
+        }
+    }
+
+    /** array 앞 size칸 읽기 전용 보기 */
+    private static List<String> asList(String[] array, int size) {
+        return Collections.unmodifiableList(Arrays.asList(array).subList(0, size));
+    }
+
+    /** 늘릴 때 용량 (두 배씩 → 추가는 분할 상환 O(1)) */
+    private static int grownCapacity(int current, int needed) {
+        return Math.max(needed, Math.max(16, current * 2));
+    }
 
-            for (String w : words) {
-                bw.write(w);
-                bw.newLine();
-            }
+    /**
+     * 지금 스냅샷 뒤에 added를 붙여 발행 (쓰기 쪽, 잠근 상태)
+     * - 기존 단어 번호는 그대로 → 배열 / 구간 번호 목록의 여유 칸에 이어 쓰고 크기만 늘림
+     * - 여유가 없을 때만 두 배로 복사 (팩 보기는 처음 추가할 때 한 번 배열로 옮김)
+     */
+    private void publishAppend(List<String> added) {
+        Words cur = words;
+        int n = cur.all.size();
+        int m = n + added.size();
 
-        } catch (Exception e) {
-            // 디버깅 출력 제거 (실행 흐름 동일)
+        String[] array = cur.array;
+        if (array == null || array.length < m) {
+            String[] grown = new String[grownCapacity(n, m)];
+            if (array != null) System.arraycopy(array, 0, grown, 0, n);
+            else for (int i = 0; i < n; i++) grown[i] = cur.all.get(i);
+            array = grown;
+        }
+        byte[] band = (cur.band.length >= m) ? cur.band : Arrays.copyOf(cur.band, array.length);
+
+        int[][] buckets = cur.buckets.clone();
+        int[] sizes = cur.bucketSizes.clone();
+        for (int i = 0; i < added.size(); i++) {
+            String w = added.get(i);
+            byte b = bandOf(w);
+            array[n + i] = w;
+            band[n + i] = b;
+            if (sizes[b] == buckets[b].length) buckets[b] = Arrays.copyOf(buckets[b], grownCapacity(sizes[b], sizes[b] + 1));
+            buckets[b][sizes[b]++] = n + i;
+        }
+
+        words = new Words(asList(array, m), array, band, buckets, sizes);
+    }
+
+    // ----------------------------------------------------
+    // 저널이 충분히 커졌으면 지금 목록으로 word.txt 다시 쓰기 (백그라운드)
+    // ----------------------------------------------------
+    private void compactIfNeeded() {
+        List<String> snapshot = words.all;
+        if (journal.needsCompaction(snapshot.size())) {
+            journal.compact(snapshot);   // 스냅샷은 바뀌지 않으므로 복사 없이 넘김
         }
     }
 
     // ----------------------------------------------------
     // 단어 추가
     // ----------------------------------------------------
-    public synchronized void addWord(String word) {
-        if (word == null) return;
+    /**
+     * @return 추가했으면 true, 빈 단어이거나 이미 있는 단어(대소문자 / 조합 방식만 다른 것 포함)면 false
+     * @throws IOException 저널에 쓰지 못함 (목록은 바뀌지 않음)
+     */
+    public synchronized boolean addWord(String word) throws IOException {
+        word = clean(word);
+        if (word == null) return false;
+
+        ensureIndex();
+        String k = key(word);
+        if (index.contains(k)) return false;
+
+        journal.appendAdd(word);
+        index.add(k);
+        keys.add(k);
+        publishAppend(Collections.singletonList(word));
+
+        compactIfNeeded();
+        return true;
+    }
+
+    /**
+     * 여러 단어 한꺼번에 추가 (새 스냅샷 1번, 저널 flush 1번)
+     * @return 실제로 추가한 단어 수 (이미 있거나 목록 안에서 겹치는 단어는 건너뜀)
+     * @throws IOException 저널에 쓰지 못함 (한 단어도 추가되지 않음)
+     */
+    public synchronized int addWords(Collection<String> list) throws IOException {
+        ensureIndex();
+        List<String> added = new ArrayList<>(list.size());
+        List<String> addedKeys = new ArrayList<>(list.size());
+        Set<String> seen = new HashSet<>();
+        for (String w : list) {
+            w = clean(w);
+            if (w == null) continue;
+            String k = key(w);
+            if (index.contains(k) || !seen.add(k)) continue;
+            addedKeys.add(k);
+            added.add(w);
+        }
+        if (added.isEmpty()) return 0;
+
+        journal.appendAll('+', added);
+        index.addAll(addedKeys);
+        keys.addAll(addedKeys);
+        publishAppend(added);
+
+        compactIfNeeded();
+        return added.size();
+    }
+
+    /** 앞뒤 공백 제거 + NFC, 빈 단어 / 줄바꿈이 든 단어는 null (저널 한 줄 = 단어 1개) */
+    private static String clean(String word) {
+        if (word == null) return null;
         word = word.trim();
-        if (word.isEmpty()) return;
+        if (word.isEmpty() || word.indexOf('\n') >= 0 || word.indexOf('\r') >= 0) return null;
+        if (!Normalizer.isNormalized(word, Normalizer.Form.NFC)) {
+            word = Normalizer.normalize(word, Normalizer.Form.NFC);   // 자모가 풀린 입력도 타이핑 판정과 같은 형태로
+        }
+        return word;
+    }
 
-        words.add(word);
-        saveWordsToFile();
+    // ----------------------------------------------------
+    // 단어 확인
+    // ----------------------------------------------------
+    /** 목록에 있는지 (대소문자 / 조합 방식 무시, 색인 조회 O(1)) */
+    public synchronized boolean contains(String word) {
+        word = clean(word);
+        if (word == null) return false;
+        ensureIndex();
+        return index.contains(key(word));
     }
 
     // ----------------------------------------------------
     // 단어 삭제
     // ----------------------------------------------------
-    public synchronized void removeWord(String word) {
-        if (word == null) return;
+    /**
+     * @return 지웠으면 true (없는 단어면 색인만 보고 바로 false)
+     * @throws IOException 저널에 쓰지 못함 (목록은 바뀌지 않음)
+     */
+    public synchronized boolean removeWord(String word) throws IOException {
+        return removeWords(Collections.singletonList(word)) > 0;
+    }
+
+    /**
+     * 여러 단어 한꺼번에 삭제 (목록 1번 훑기, 새 스냅샷 1번, 저널 flush 1번)
+     * @return 목록에서 빠진 단어 수
+     * @throws IOException 저널에 쓰지 못함 (한 단어도 지워지지 않음)
+     */
+    public synchronized int removeWords(Collection<String> list) throws IOException {
+        ensureIndex();
+        Set<String> drop = new HashSet<>();
+        List<String> removed = new ArrayList<>();
+        for (String w : list) {
+            w = clean(w);
+            if (w == null) continue;
+            String k = key(w);
+            if (index.contains(k) && drop.add(k)) removed.add(w);
+        }
+        if (drop.isEmpty()) return 0;
 
-        words.removeIf(w -> w.equalsIgnoreCase(word));
-        saveWordsToFile();
+        journal.appendAll('-', removed);
+
+        // 지운 자리 뒤로 번호가 당겨지므로 배열 / 구간별 번호 목록을 한 번 훑으며 새로 채움 (O(n))
+        // 이전 스냅샷을 읽는 스레드가 있으므로 제자리에서 당기지 않음, 용량은 그대로 → 다음 추가는 복사 없음
+        Words cur = words;
+        int n = cur.all.size();
+        String[] kept = new String[Math.max(n, 16)];
+        byte[] band = new byte[kept.length];
+        int[][] buckets = new int[BANDS.length][];
+        for (int b = 0; b < buckets.length; b++) buckets[b] = new int[Math.max(cur.bucketSizes[b], 4)];
+        int[] sizes = new int[BANDS.length];
+        ArrayList<String> keptKeys = new ArrayList<>(n);
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            String key = keys.get(i);
+            if (drop.contains(key)) continue;   // 저장해 둔 키로 비교 (문자열 비교 / 정규화 다시 안 함)
+            byte b = cur.band[i];   // 남은 단어는 구간을 다시 계산하지 않음
+            kept[k] = cur.all.get(i);
+            band[k] = b;
+            buckets[b][sizes[b]++] = k;
+            k++;
+            keptKeys.add(key);
+        }
+
+        words = new Words(asList(kept, k), kept, band, buckets, sizes);
+        index.removeAll(drop);
+        keys = keptKeys;
+
+        compactIfNeeded();
+        return n - k;
     }
 
     // ----------------------------------------------------
-    // 모든 단어 반환
+    // 모든 단어 반환 (읽기 전용, 복사 없음, 잠금 없음)
     // ----------------------------------------------------
-    public synchronized List<String> getWords() {
-        return new ArrayList<>(words);
+    public List<String> getWords() {
+        return words.all;
     }
 
     /** 기존 코드 호환용 (ZombieFrame 등에서 호출) */
-    public synchronized List<String> getAllWords() {
+    public List<String> getAllWords() {
         return getWords();
     }
 
     // ----------------------------------------------------
-    // 랜덤 단어 제공
+    // 랜덤 단어 제공 (잠금 없음)
     // ----------------------------------------------------
-    private final Random random = new Random();
+    public String getRandomWord() {
+        return getRandomWord(ThreadLocalRandom.current());
+    }
+
+    /** 호출 측 난수로 뽑기 (시드를 고정한 게임 재생용) */
+    public String getRandomWord(Random rnd) {
+        List<String> w = words.all;
+        if (w.isEmpty()) return "???";
+        return w.get(rnd.nextInt(w.size()));
+    }
+
+    /** 난이도 구간에서 랜덤 단어 (O(1)) */
+    public String getRandomWord(DifficultyBand band) {
+        return getRandomWord(band, ThreadLocalRandom.current());
+    }
+
+    /**
+     * 난이도 구간에서 호출 측 난수로 뽑기
+     * - 그 구간이 비었으면 가까운 구간 (EASY ↔ NORMAL ↔ HARD 순), 모두 비었으면 "???"
+     */
+    public String getRandomWord(DifficultyBand band, Random rnd) {
+        Words w = words;
+        int b = band.ordinal();
+        for (int d = 0; d < BANDS.length; d++) {
+            int picked = pick(w.bucketSizes, b - d, b + d);
+            if (picked >= 0) return w.all.get(w.buckets[picked][rnd.nextInt(w.bucketSizes[picked])]);
+        }
+        return "???";
+    }
+
+    /** 거리 d만큼 떨어진 두 구간 중 단어가 있는 쪽 (더 쉬운 쪽 먼저, 둘 다 비었으면 -1) */
+    private static int pick(int[] sizes, int lower, int upper) {
+        if (lower >= 0 && sizes[lower] > 0) return lower;
+        if (upper < sizes.length && sizes[upper] > 0) return upper;
+        return -1;
+    }
 
-    public synchronized String getRandomWord() {
-        if (words.isEmpty()) return "???";
-        return words.get(random.nextInt(words.size()));
+    /** 난이도 구간별 단어 수 */
+    public int getWordCount(DifficultyBand band) {
+        return words.bucketSizes[band.ordinal()];
     }
 }
@@ -0,0 +1,241 @@
+package zombie_game;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 미리 변환해 둔 단어 팩 (words.txt → words.pack)
+ * - 파일을 메모리 매핑만 하고 단어는 꺼낼 때 1개씩 UTF-8 디코딩 (한 번 만든 String은 보관)
+ *   → 시작할 때 줄 단위로 읽어 String을 다 만들지 않음
+ * - 원본 텍스트 파일의 크기 / 수정 시각을 기록 → 원본이 바뀌었으면 isFreshFor()가 false (텍스트로 읽음)
+ * - 형식 (빅 엔디언)
+ *     int  "ZWPK", int 버전, int 열 플래그, int 단어 수 n
+ *     long 원본 #gen 세대, long 원본 크기, long 원본 수정 시각, int 본문 바이트 수
+ *     int[n + 1] 단어 시작 위치 (본문 기준)
+ *     short[n] 글자 수 (LENGTHS), byte[n] 자모 수 (JAMO), byte[n] 난이도 구간 (BAND)   ← 플래그에 있을 때만
+ *     byte[] 본문 (UTF-8 단어들을 구분자 없이 이어 붙임)
+ * - 변환: java -cp out zombie_game.WordPack words.txt boss_words.txt
+ */
+public final class WordPack {
+
+    private static final int MAGIC = 0x5A57504B;   // "ZWPK"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * 4 + 8 * 3 + 4;
+
+    /** 열 플래그: 글자(코드 포인트) 수 / 자모 수 / 난이도 구간 (DifficultyBand 순서값) */
+    public static final int LENGTHS = 1;
+    public static final int JAMO = 2;
+    public static final int BAND = 4;
+
+    private final MappedByteBuffer buf;
+    private final int count;
+    private final int flags;
+    private final long generation;
+    private final long sourceSize;
+    private final long sourceModified;
+
+    private final int offsetsAt;
+    private final int lengthsAt;
+    private final int jamoAt;
+    private final int bandAt;
+    private final int blobAt;
+
+    private final String[] decoded;   // 디코딩해 둔 단어 (없으면 null)
+
+    private WordPack(MappedByteBuffer buf) throws IOException {
+        this.buf = buf;
+        if (buf.capacity() < HEADER_BYTES || buf.getInt(0) != MAGIC) throw new IOException("단어 팩이 아님");
+        if (buf.getInt(4) != VERSION) throw new IOException("지원하지 않는 단어 팩 버전: " + buf.getInt(4));
+
+        flags = buf.getInt(8);
+        count = buf.getInt(12);
+        generation = buf.getLong(16);
+        sourceSize = buf.getLong(24);
+        sourceModified = buf.getLong(32);
+        int blobSize = buf.getInt(40);
+
+        offsetsAt = HEADER_BYTES;
+        lengthsAt = offsetsAt + (count + 1) * 4;
+        jamoAt = lengthsAt + ((flags & LENGTHS) != 0 ? count * 2 : 0);
+        bandAt = jamoAt + ((flags & JAMO) != 0 ? count : 0);
+        blobAt = bandAt + ((flags & BAND) != 0 ? count : 0);
+        if (count < 0 || (long) blobAt + blobSize != buf.capacity()) throw new IOException("단어 팩 크기가 맞지 않음");
+
+        decoded = new String[count];
+    }
+
+    /** 팩 파일을 읽기 전용으로 매핑 */
+    public static WordPack open(File file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new WordPack(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+        }
+    }
+
+    /** source 텍스트 파일에 대응하는 팩 (words.txt → words.pack, 최신이 아니거나 없으면 null) */
+    public static WordPack openFor(File source) {
+        File packFile = pathFor(source);
+        if (!packFile.isFile()) return null;
+        try {
+            WordPack pack = open(packFile);
+            return pack.isFreshFor(source) ? pack : null;
+        } catch (IOException | RuntimeException e) {
+            return null;   // 깨진 팩은 무시하고 텍스트로 읽음
+        }
+    }
+
+    /** 텍스트 파일 옆 팩 파일 경로 (확장자만 .pack) */
+    public static File pathFor(File source) {
+        String name = source.getName();
+        int dot = name.lastIndexOf('.');
+        String base = (dot > 0) ? name.substring(0, dot) : name;
+        return new File(source.getAbsoluteFile().getParentFile(), base + ".pack");
+    }
+
+    /** 만들 때의 원본과 크기 / 수정 시각이 같은지 */
+    public boolean isFreshFor(File source) {
+        return source.isFile() && source.length() == sourceSize && source.lastModified() == sourceModified;
+    }
+
+    public int size() { return count; }
+
+    /** 원본 텍스트의 #gen 세대 (WordJournal) */
+    public long getGeneration() { return generation; }
+
+    /** i번 단어 (처음 꺼낼 때만 디코딩) */
+    public String get(int i) {
+        String w = decoded[i];
+        if (w != null) return w;
+
+        int start = buf.getInt(offsetsAt + i * 4);
+        int end = buf.getInt(offsetsAt + (i + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        buf.get(blobAt + start, bytes);
+        w = new String(bytes, StandardCharsets.UTF_8);
+        decoded[i] = w;   // 같은 단어를 두 스레드가 만들어도 결과는 같음 (String은 불변)
+        return w;
+    }
+
+    /** i번 단어 글자 수 (열이 없으면 -1) */
+    public int syllables(int i) {
+        return (flags & LENGTHS) != 0 ? buf.getShort(lengthsAt + i * 2) : -1;
+    }
+
+    /** i번 단어 자모 수 (열이 없으면 -1) */
+    public int jamoCount(int i) {
+        return (flags & JAMO) != 0 ? (buf.get(jamoAt + i) & 0xFF) : -1;
+    }
+
+    /** i번 단어 난이도 구간 순서값 (열이 없으면 -1, 단어를 디코딩하지 않음) */
+    public int band(int i) {
+        return (flags & BAND) != 0 ? buf.get(bandAt + i) : -1;
+    }
+
+    /** list가 어떤 팩의 asList() 보기면 그 팩, 아니면 null */
+    public static WordPack of(List<String> list) {
+        return (list instanceof PackList) ? ((PackList) list).pack() : null;
+    }
+
+    /** 읽기 전용 목록 보기 (복사 없음, get 할 때 디코딩) */
+    public List<String> asList() {
+        return new PackList();
+    }
+
+    private final class PackList extends AbstractList<String> implements RandomAccess {
+        @Override public String get(int index) {
+            if (index < 0 || index >= count) throw new IndexOutOfBoundsException("index: " + index);
+            return WordPack.this.get(index);
+        }
+
+        @Override public int size() { return count; }
+
+        WordPack pack() { return WordPack.this; }
+    }
+
+    // ---------------- 만들기 ----------------
+
+    /**
+     * words를 팩으로 저장 (임시 파일에 쓰고 원자적 이름 바꾸기)
+     * @param source 원본 텍스트 파일 (크기 / 수정 시각 기록용, 이미 다 쓴 상태여야 함)
+     */
+    public static void write(List<String> words, long generation, File source, File out) throws IOException {
+        int n = words.size();
+        byte[][] utf8 = new byte[n][];
+        int blobSize = 0;
+        for (int i = 0; i < n; i++) {
+            utf8[i] = words.get(i).getBytes(StandardCharsets.UTF_8);
+            blobSize += utf8[i].length;
+        }
+
+        int flags = LENGTHS | JAMO | BAND;
+        ByteBuffer b = ByteBuffer.allocate(HEADER_BYTES + (n + 1) * 4 + n * 2 + n + n + blobSize);
+        b.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(n);
+        b.putLong(generation).putLong(source.length()).putLong(source.lastModified()).putInt(blobSize);
+
+        int offset = 0;
+        for (int i = 0; i < n; i++) {
+            b.putInt(offset);
+            offset += utf8[i].length;
+        }
+        b.putInt(offset);
+        for (String w : words) b.putShort((short) Math.min(w.codePointCount(0, w.length()), Short.MAX_VALUE));
+        for (String w : words) b.put((byte) Math.min(HangulJamo.key(w).length(), 255));
+        for (String w : words) b.put((byte) WordDifficulty.band(w).ordinal());
+        for (byte[] u : utf8) b.put(u);
+
+        Path target = out.toPath();
+        Path tmp = Paths.get(target + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp.toFile())) {
+            fos.write(b.array());
+            fos.getFD().sync();
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 텍스트 단어 파일 읽기 (한 줄에 단어 1개, 첫 줄이 "#gen=N"이면 세대)
+     * @return 세대 (머리줄 없으면 0)
+     */
+    public static long readText(File file, List<String> out) throws IOException {
+        long gen = 0;
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = br.readLine()) != null) {
+                if (first && line.startsWith(WordJournal.GEN_HEADER)) {
+                    gen = WordJournal.parseGeneration(line);
+                } else {
+                    line = line.trim();
+                    if (!line.isEmpty()) out.add(line);
+                }
+                first = false;
+            }
+        }
+        return gen;
+    }
+
+    /** 변환기: 인자로 받은 텍스트 파일마다 옆에 .pack 생성 */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) args = new String[]{"words.txt", "boss_words.txt"};
+        for (String path : args) {
+            File src = new File(path);
+            List<String> words = new ArrayList<>();
+            long gen = readText(src, words);
+            File out = pathFor(src);
+            write(words, gen, src, out);
+            System.out.println(src + " → " + out + " (" + words.size() + "개, " + out.length() + " B)");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package zombie_game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좀비 단어 intern 표
+ * - 같은 단어는 한 번만 등록하고 int id로 참조 (ZombieStore의 단어 열)
+ * - 단어마다 자모 키를 한 번만 계산
+ * - 단어마다 그 단어를 가진 살아 있는 좀비 id 목록 (스폰 순서)
+ * - 동기화 없음 (GameSimulation 안에서만 사용)
+ */
+public class WordTable {
+
+    /** 등록된 단어 1개 */
+    public static final class Entry {
+        public final int id;
+        public final String word;
+        final String jamoKey;
+
+        // 이 단어를 가진 살아 있는 좀비 id (스폰 순서)
+        int[] liveIds = new int[2];
+        int liveCount = 0;
+
+        boolean candidate;   // 입력 중인 글자와 접두사 일치
+
+        Entry(int id, String word) {
+            this.id = id;
+            this.word = word;
+            this.jamoKey = HangulJamo.key(word);
+        }
+
+        void addLive(int zombieId) {
+            if (liveCount == liveIds.length) liveIds = Arrays.copyOf(liveIds, liveCount * 2);
+            liveIds[liveCount++] = zombieId;
+        }
+
+        boolean removeLive(int zombieId) {
+            for (int i = 0; i < liveCount; i++) {
+                if (liveIds[i] == zombieId) {
+                    System.arraycopy(liveIds, i + 1, liveIds, i, liveCount - i - 1);
+                    liveCount--;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final Map<String, Entry> byWord = new HashMap<>();
+    private final List<Entry> byId = new ArrayList<>();
+
+    /** 단어 등록 (이미 있으면 기존 항목) */
+    public Entry intern(String word) {
+        Entry e = byWord.get(word);
+        if (e == null) {
+            e = new Entry(byId.size(), word);
+            byWord.put(word, e);
+            byId.add(e);
+        }
+        return e;
+    }
+
+    public Entry get(int wordId) {
+        return byId.get(wordId);
+    }
+
+    public String word(int wordId) {
+        return byId.get(wordId).word;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /** 모든 단어의 살아 있는 좀비 목록 / 후보 표시 초기화 (단어 등록은 유지) */
+    public void clearLive() {
+        for (Entry e : byId) {
+            e.liveCount = 0;
+            e.candidate = false;
+        }
+    }
+}
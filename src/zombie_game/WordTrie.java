@@ -0,0 +1,174 @@
+package zombie_game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 단어 → 값 목록 트라이 (대소문자 무시)
+ * - 정확히 일치하는 단어 조회 O(단어 길이)
+ * - 접두사로 시작하는 모든 값 모으기
+ * - 같은 단어의 값은 추가된 순서대로 보관
+ * - 자식 노드는 정렬된 char 배열 + 이진 탐색 (문자 박싱 없음)
+ * - 값이 모두 빠진 노드는 바로 떼어 냄 (단어가 들어왔다 나가도 노드가 쌓이지 않음)
+ * - 동기화 없음 (호출 측에서 보호)
+ */
+public class WordTrie<T> {
+
+    private static final char[] NO_KEYS = new char[0];
+
+    private final Node<T> root = new Node<>();
+    private int size = 0;
+
+    private static final class Node<T> {
+        char[] keys = NO_KEYS;
+        Node<T>[] children;
+        List<T> values;      // 이 노드에서 끝나는 단어의 값들
+        int subtreeCount;    // 이 노드 아래 값 전체 개수
+
+        Node<T> child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return (i >= 0) ? children[i] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+
+            int at = -i - 1;
+            int n = keys.length;
+            char[] newKeys = new char[n + 1];
+            Node<T>[] newChildren = (Node<T>[]) new Node<?>[n + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            newKeys[at] = c;
+            System.arraycopy(keys, at, newKeys, at + 1, n - at);
+            if (children != null) {
+                System.arraycopy(children, 0, newChildren, 0, at);
+                System.arraycopy(children, at, newChildren, at + 1, n - at);
+            }
+            Node<T> child = new Node<>();
+            newChildren[at] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        void removeChild(char c) {
+            int at = Arrays.binarySearch(keys, c);
+            int n = keys.length;
+            if (n == 1) {
+                keys = NO_KEYS;
+                children = null;
+                return;
+            }
+            char[] newKeys = new char[n - 1];
+            Node<T>[] newChildren = (Node<T>[]) new Node<?>[n - 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(keys, at + 1, newKeys, at, n - at - 1);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(children, at + 1, newChildren, at, n - at - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+
+    /** equalsIgnoreCase와 같은 기준의 문자 정규화 */
+    static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    public void add(String word, T value) {
+        Node<T> node = root;
+        node.subtreeCount++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(fold(word.charAt(i)));
+            node.subtreeCount++;
+        }
+        if (node.values == null) node.values = new ArrayList<>(2);
+        node.values.add(value);
+        size++;
+    }
+
+    /** word에 등록된 value 하나 제거 (없으면 false) */
+    public boolean remove(String word, T value) {
+        Node<T> end = find(word);
+        if (end == null || end.values == null || !end.values.remove(value)) return false;
+        if (end.values.isEmpty()) end.values = null;
+
+        // 경로를 따라 개수를 줄이다가 비는 노드가 나오면 그 아래는 모두 빈 노드 → 통째로 떼어 냄
+        Node<T> node = root;
+        node.subtreeCount--;
+        for (int i = 0; i < word.length(); i++) {
+            char c = fold(word.charAt(i));
+            Node<T> child = node.child(c);
+            if (--child.subtreeCount == 0) {
+                node.removeChild(c);
+                break;
+            }
+            node = child;
+        }
+        size--;
+        return true;
+    }
+
+    /** 정확히 일치하는 단어의 값 목록 (추가 순서, 읽기 전용) */
+    public List<T> get(String word) {
+        Node<T> node = find(word);
+        if (node == null || node.values == null) return Collections.emptyList();
+        return node.values;
+    }
+
+    /** prefix로 시작하는 단어가 하나라도 있는지 */
+    public boolean hasPrefix(String prefix) {
+        Node<T> node = find(prefix);
+        return node != null && node.subtreeCount > 0;
+    }
+
+    /** prefix로 시작하는 모든 단어의 값을 out에 추가 */
+    public void collectPrefix(String prefix, List<T> out) {
+        Node<T> node = find(prefix);
+        if (node != null) collect(node, out);
+    }
+
+    private void collect(Node<T> node, List<T> out) {
+        if (node.subtreeCount == 0) return;
+        if (node.values != null) out.addAll(node.values);
+        for (int i = 0; i < node.keys.length; i++) {
+            collect(node.children[i], out);
+        }
+    }
+
+    private Node<T> find(String word) {
+        Node<T> node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.child(fold(word.charAt(i)));
+        }
+        return node;
+    }
+
+    public void clear() {
+        root.keys = NO_KEYS;
+        root.children = null;
+        root.values = null;
+        root.subtreeCount = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 루트를 포함한 노드 수 (테스트용) */
+    int nodeCount() {
+        return countNodes(root);
+    }
+
+    private static int countNodes(Node<?> node) {
+        int n = 1;
+        for (int i = 0; i < node.keys.length; i++) n += countNodes(node.children[i]);
+        return n;
+    }
+}
@@ -2,6 +2,7 @@ package zombie_game;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -126,8 +127,29 @@ public class ZombieFrame extends JFrame {
                 continue;
             }
 
-            // ✅ 저장
-            WordManager.getInstance().addWord(input);
+            // ✅ 저장 (이미 있는 단어면 다시 입력 받기)
+            boolean added;
+            try {
+                added = WordManager.getInstance().addWord(input);
+            } catch (IOException ex) {
+                // 파일에 못 쓰면 목록에도 넣지 않음 → 다시 시작해도 사라질 단어를 저장됐다고 하지 않음
+                JOptionPane.showMessageDialog(
+                        this,
+                        "단어를 저장하지 못했습니다: " + input + "\n(" + ex.getMessage() + ")",
+                        "오류",
+                        JOptionPane.ERROR_MESSAGE
+                );
+                return;
+            }
+            if (!added) {
+                JOptionPane.showMessageDialog(
+                        this,
+                        "이미 있는 단어입니다: " + input,
+                        "알림",
+                        JOptionPane.WARNING_MESSAGE
+                );
+                continue;
+            }
 
             // ✅ 저장 즉시 알림
             JOptionPane.showMessageDialog(
@@ -1,17 +1,24 @@
 package zombie_game;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.im.InputContext;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 public class  ZombieGamePanel extends JPanel {
 
     private final ZombieFrame frame;
-    private final RoundManager roundManager;
+
+    // 게임 로직 (좀비 / 보스 / HP / 점수 / 라운드) - 화면은 스냅샷만 그린다
+    private final GameSimulation simulation;
 
     // BGM은 ZombieFrame에서 공통으로 관리
 
@@ -23,28 +30,70 @@ public class  ZombieGamePanel extends JPanel {
     // 입력
     private final JTextField inputField;
 
+    // 실시간 조준 모드 (F2 / -Dzombie.typeAhead=true):
+    // 글자를 칠 때마다 후보 좀비 하이라이트, 후보가 하나로 완전히 일치하면 자동 발사
+    private volatile boolean typeAheadMode = Boolean.getBoolean("zombie.typeAhead");
+
+    // 성능 표시 (F3 / -Dzombie.debugOverlay=true): 화면 왼쪽 위에 틱 / 그리기 / EDT 지연 / GC / 객체 풀 통계
+    private volatile boolean debugOverlay = Boolean.getBoolean("zombie.debugOverlay");
+
     // 중앙 게임 화면
     private final JPanel viewPanel;
 
-    // 게임 상태
+    // 능동 렌더링 (-Dzombie.activeRendering=true, 가속 불가 시 기존 repaint 방식)
+    private final ActiveRenderer activeRenderer;
+
+    // 부분 다시 그리기: 바뀐 영역(이전 프레임 ∪ 이번 프레임)만 repaint
+    // (F4 / -Dzombie.fullRepaint=true 이면 예전처럼 화면 전체를 다시 그림, 비교용)
+    private volatile boolean fullRepaint = Boolean.getBoolean("zombie.fullRepaint");
+    private static final int LAYER_SCENE = 0;     // 좀비 + 보스 (스냅샷이 바뀔 때만)
+    private static final int LAYER_BULLETS = 1;   // 날아가는 총알
+    private static final int LAYER_OVERLAY = 2;   // 화면 전체 효과 (흔들림 / 경고 / 일시정지 …)
+    // 영역 계산은 EDT에서만 (컴포넌트 크기 / 라벨 캐시 / 총알 목록을 EDT가 바꾸므로)
+    private final DirtyRegion dirty = new DirtyRegion(3);
+    private final AtomicBoolean repaintPosted = new AtomicBoolean();   // 다른 스레드에서 넘긴 요청이 EDT 대기 중
+    private GameSimulation.Snapshot sceneBoundsOf;   // sceneBounds 캐시 (스냅샷 1개당 1번 계산)
+    private final Rectangle sceneBounds = new Rectangle();
+
+    // 게임 상태 (게임 루프 스레드에서도 읽으므로 volatile)
     private String playerName = "Player";
-    private int hp = 5;
-    private int score = 0;
 
-    private boolean isRoundAnimating = false;
-    private boolean isPaused = false;
-    private boolean isCountingDown = false;
-    private int countdownValue = 0;
+    private volatile boolean isRoundAnimating = false;
+    private volatile boolean isPaused = false;
+    private volatile boolean isCountingDown = false;
+    private volatile int countdownValue = 0;
+
+    // 틱 / 카운트다운 / 라운드 배너는 모두 예약 실행기 1개에서 (스레드를 따로 만들지 않음)
+    private final GameScheduler scheduler = new GameScheduler("game-task");
+    private volatile GameScheduler.Task gameLoop;
+
+    // 게임 시계: 흐른 시간만큼 틱 진행 (밀리면 최대 5틱까지 따라잡기)
+    // 보간 (-Dzombie.interpolate=false로 끄기): 틱 사이에도 화면 주사율로 그리며 좀비 위치를 직전 틱 ↔ 이번 틱 사이로 보간
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final long MIN_FRAME_NANOS = 4_000_000L;
+    private final GameClock clock = new GameClock(GameSimulation.TICK_MS, MAX_CATCH_UP_TICKS);
+    private final boolean interpolate = Boolean.parseBoolean(System.getProperty("zombie.interpolate", "true"));
+    private volatile long frameNanos = 1_000_000_000L / 60;
 
-    // 틱 & 스레드
-    private long tickCount = 0;
-    private GameLoopThread gameThread;
-    private static final int LOOP_DELAY_MS = 40; // 약 25fps
+    // 난수 시드 (-Dzombie.seed=<숫자>, 없으면 판마다 새로 정함)
+    // 입력 기록 (-Dzombie.record=<파일>): 한 판이 끝나면 시드 + 틱별 사격 단어 저장 (녹화 중에는 시작할 때의 화면 폭 고정)
+    // 입력 재생 (-Dzombie.replay=<파일>): 같은 시드 / 화면 폭으로 기록된 사격을 같은 틱에 다시 쏨
+    private volatile InputRecording recording;
+    private volatile InputRecording replay;
 
-    // 좀비 / 총알
-    private final List<Zombie> zombies = new ArrayList<>();
-    private final List<Bullet> bullets = new ArrayList<>();
-    private int zombieIdSeq = 1;
+    // 틱 / 그리기 / 틱 간격 / EDT 지연 측정
+    private final PerfMonitor perf = new PerfMonitor();
+
+    // 부하 테스트 모드 (-Dzombie.stress=<좀비 수>, 설정은 StressMode 참고)
+    private volatile StressMode stress;
+    private double stressBulletsDue = 0;   // 게임 루프 스레드 전용
+    private Thread stressShutdownHook;     // 강제 종료 시 지금 판 CSV 저장 (패널당 1번만 등록)
+
+    // 총알 (EDT 전용, 타이머 1개로 전체 애니메이션)
+    private final BulletScheduler bullets;
+
+    // 총알 목표 좌표 (EDT 전용, 사격마다 꺼내 쓰고 반납)
+    private final ObjectPool<Point> pointPool = new ObjectPool<>("좌표", 8, 2, Point::new);
 
     // 이미지들
     private Image gunImage;
@@ -53,171 +102,48 @@ public class  ZombieGamePanel extends JPanel {
     private Image backgroundImage1;   // round 1 기본 배경
     private Image backgroundImage2;   // round 2 배경
     private Image backgroundImage3;   // round 3 배경
-    private Image backgroundImage;    // 현재 실제로 그릴 배경
-
-    private final Image[] zombieImages = new Image[4];
-    private Image bossImage;
+    private volatile Image backgroundImage;    // 현재 실제로 그릴 배경 (원본)
+    private volatile int backgroundRound = 1;
 
-    // 총 위치 (총알 출발점 계산용)
-    private int gunDrawX, gunDrawY, gunDrawW, gunDrawH;
+    // 라운드별로 화면 크기에 맞춰 늘려 둔 배경 (다시 그릴 영역만 그대로 복사)
+    // 창 크기 / 라운드가 바뀔 때만 다시 만들고, 다음 라운드 배경은 미리 준비
+    private BackgroundCache backgroundCache;
 
-    // 피격 연출 & 쿨타임
-    private int damageEffectFrames = 0;
-    private int gunShakeFrames = 0;
-    private int damageCooldownTicks = 0;              // 맞은 후 잠깐 무적
-    private static final double DAMAGE_DISTANCE_THRESHOLD = 0.0;
-    private static final int DAMAGE_COOLDOWN_MAX = 15;
-
-    // 근접 경고(닿기 직전 표현)
-    private static final double DANGER_DISTANCE = 20.0;
-    private boolean dangerNear = false;
-    private int dangerPulseTick = 0;
-
-    private String damageText = null;
-    private int damageTextFrames = 0;
-    private int screenShakeFrames = 0;   // 피격 시 화면 흔들림 프레임 수
-
-    // 보스
-    private BossZombie bossZombie = null;
-    private int bossSpawnCountThisRound = 0;
-    private static final int[] BOSS_SPAWN_LIMIT = {0, 2, 3, 5};
-
-
-    // ---------------- 내부 클래스 ----------------
-
-    private static class Zombie {
-        String word;
-        double distance;
-        int id;
-        int xPos;
-        int spriteIndex;
-
-        Zombie(int id, String word, double distance, int xPos, int spriteIndex) {
-            this.id = id;
-            this.word = word;
-            this.distance = distance;
-            this.xPos = xPos;
-            this.spriteIndex = spriteIndex;
-        }
-    }
+    // 좀비 / 보스 스프라이트 + 축소 캐시 + 단어 라벨 캐시 (그리기는 HordeRenderer가 담당)
+    private HordeRenderer horde;
 
-    /** 3개의 단어를 순서대로 맞춰야 죽는 보스 */
-    private static class BossZombie extends Zombie {
-        String[] words;
-        int index;
+    // 그리기용 Font / Color / Stroke 공유 인스턴스
+    private final RenderResources res = RenderResources.getInstance();
 
-        BossZombie(int id, String[] words, double distance, int xPos) {
-            super(id, words[0], distance, xPos, -1);
-            this.words = words;
-            this.index = 0;
-        }
+    // 매 프레임 문자열을 만들지 않도록 미리 만들어 둔 문구
+    private static final String[] ROUND_LABELS = {"ROUND 0", "ROUND 1", "ROUND 2", "ROUND 3", "ROUND 4"};
+    private static final String[] COUNTDOWN_LABELS = {"0", "1", "2", "3"};
 
-        /** 현재 단어를 맞췄다면 true/false, 마지막 단어까지 다 맞추면 최종 true */
-        boolean hit(String typed) {
-            if (!words[index].equalsIgnoreCase(typed)) {
-                return false;
-            }
-            index++;
-            if (index < words.length) {
-                this.word = words[index];
-                return false;
-            } else {
-                return true;
-            }
-        }
-    }
-
-    private static class Bullet {
-        double x, y;
-        final double startX, startY;
-        final double targetX, targetY;
-        final Zombie target;    // 현재는 판정용으로 사용하지 않음(즉시 판정)
-
-        Bullet(double startX, double startY, double targetX, double targetY, Zombie target) {
-            this.startX = startX;
-            this.startY = startY;
-            this.x = startX;
-            this.y = startY;
-            this.targetX = targetX;
-            this.targetY = targetY;
-            this.target = target;
-        }
-    }
-
-    /** 메인 게임 루프 스레드 */
-    private class GameLoopThread extends Thread {
-        private volatile boolean running = true;
-        public void requestStop() { running = false; interrupt(); }
-        @Override public void run() {
-            while (running) {
-                try { Thread.sleep(LOOP_DELAY_MS); }
-                catch (InterruptedException e) { break; }
-                if (!running) break;
-                SwingUtilities.invokeLater(() -> gameTick());
-            }
-        }
-    }
-
-    /** 총알 애니메이션 스레드 (빠르게) */
-    private class BulletThread extends Thread {
-        private final Bullet bullet;
-        BulletThread(Bullet bullet) { this.bullet = bullet; }
-
-        @Override
-        public void run() {
-            int steps = 18;
-            int sleepMs = 8;
-
-            for (int i = 1; i <= steps; i++) {
-                double t = i / (double) steps;
-                final double nx = bullet.startX + (bullet.targetX - bullet.startX) * t;
-                final double ny = bullet.startY + (bullet.targetY - bullet.startY) * t;
-
-                SwingUtilities.invokeLater(() -> {
-                    bullet.x = nx;
-                    bullet.y = ny;
-                    viewPanel.repaint();
-                });
-
-                try { Thread.sleep(sleepMs); }
-                catch (InterruptedException e) { return; }
-            }
-
-            // ★ 총알 이동 애니메이션 끝 → bullets 리스트에서 제거
-            SwingUtilities.invokeLater(() -> bullets.remove(bullet));
-        }
-    }
+    // 총 위치 (총알 출발점 계산용)
+    private int gunDrawX, gunDrawY, gunDrawW, gunDrawH;
 
-    /** 일시정지 해제 3-2-1 카운트다운 */
-    private class ResumeCountdownThread extends Thread {
-        @Override
-        public void run() {
-            try {
-                for (int i = 3; i >= 1; i--) {
-                    countdownValue = i;
-                    SwingUtilities.invokeLater(() -> viewPanel.repaint());
-                    Thread.sleep(1000);
-                }
-            } catch (InterruptedException ignored) {}
-            SwingUtilities.invokeLater(() -> {
-                countdownValue = 0;
-                isPaused = false;
-                isCountingDown = false;
+    // clip 영역을 받아 둘 사각형 (그릴 때마다 새로 만들지 않음)
+    // drawClip: 그리는 스레드 전용 (EDT 또는 능동 렌더링 스레드, 능동 렌더링 중엔 paintComponent가 그리지 않음)
+    // recordClip: EDT 전용
+    private final Rectangle drawClip = new Rectangle();
+    private final Rectangle recordClip = new Rectangle();
 
-                // 일시정지 해제 시 BGM 재개 (현재 음소거 상태면 재개하지 않음)
-                frame.resumeBgmForPauseMenu();
+    // 이번 프레임의 장면 크기 (그리는 스레드 전용, drawGameScreen 시작할 때 정함)
+    private int frameW, frameH;
+    // 능동 렌더링용 장면 크기: 렌더 스레드가 Swing 크기를 직접 읽지 않도록 EDT가 크기 바뀔 때마다 찍어 둠
+    private volatile Dimension sceneSize = new Dimension();
 
-                startGameThread();
-                inputField.requestFocusInWindow();
-            });
-        }
-    }
+    // 부분 다시 그리기 영역 계산용 사각형 (EDT 전용, DirtyRegion / repaint는 값만 복사해 가므로 재사용)
+    private final Rectangle repaintRegion = new Rectangle();
+    private final Rectangle fullBounds = new Rectangle();
+    private final Rectangle overlayBounds = new Rectangle();
+    private final Rectangle bulletBounds = new Rectangle();
 
     // ---------------- 생성자 ----------------
 
     public ZombieGamePanel(ZombieFrame frame) {
         this.frame = frame;
-        this.roundManager = new RoundManager();
+        this.simulation = new GameSimulation();
 
         setLayout(new BorderLayout());
 
@@ -227,12 +153,12 @@ public class  ZombieGamePanel extends JPanel {
         heartPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
 
         infoLabel = new JLabel("플레이어: -  |  라운드: 1");
-        infoLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 18));
+        infoLabel.setFont(res.font("맑은 고딕", Font.PLAIN, 18));
         leftPanel.add(heartPanel);
         leftPanel.add(infoLabel);
 
         scoreLabel = new JLabel("점수: 0", SwingConstants.RIGHT);
-        scoreLabel.setFont(new Font("맑은 고딕", Font.BOLD, 20));
+        scoreLabel.setFont(res.font("맑은 고딕", Font.BOLD, 20));
         scoreLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 0, 20));
 
         topPanel.add(leftPanel, BorderLayout.WEST);
@@ -247,18 +173,42 @@ public class  ZombieGamePanel extends JPanel {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                drawGameScreen((Graphics2D) g);
+                // 능동 렌더링 중에는 렌더 스레드가 직접 그림
+                if (activeRenderer.isRunning()) return;
+
+                GameSimulation.Snapshot s = simulation.snapshot();
+                drawGameScreen((Graphics2D) g, s, ZombieGamePanel.this.getWidth(), ZombieGamePanel.this.getHeight());
+                recordPainted(s, clipBounds(g, recordClip));
             }
         };
         viewPanel.setBackground(Color.BLACK);
+        viewPanel.addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent e) {
+                horde.invalidate();
+                backgroundCache.invalidate();
+                prepareNextBackground();
+            }
+        });
         add(viewPanel, BorderLayout.CENTER);
+        addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent e) {
+                sceneSize = getSize();
+            }
+        });
+
+        // 장면 좌표는 paintComponent와 같이 패널 전체 크기 기준 (백버퍼 크기 w, h와 다름)
+        activeRenderer = new ActiveRenderer(viewPanel, (g2d, w, h) -> {
+            Dimension d = sceneSize;
+            drawGameScreen(g2d, simulation.snapshot(), d.width, d.height);
+        });
+        bullets = new BulletScheduler(this::repaintView);
 
         // 하단 입력
         JPanel bottomPanel = new JPanel(new BorderLayout());
         JLabel inputLabel = new JLabel(" 입력: ");
-        inputLabel.setFont(new Font("맑은 고딕", Font.BOLD, 18));
+        inputLabel.setFont(res.font("맑은 고딕", Font.BOLD, 18));
         inputField = new JTextField();
-        inputField.setFont(new Font("맑은 고딕", Font.BOLD, 20));
+        inputField.setFont(res.font("맑은 고딕", Font.BOLD, 20));
 
         bottomPanel.add(inputLabel, BorderLayout.WEST);
         bottomPanel.add(inputField, BorderLayout.CENTER);
@@ -266,7 +216,7 @@ public class  ZombieGamePanel extends JPanel {
 
         // 엔터로 발사
         inputField.addActionListener(e -> {
-            if (isRoundAnimating || isPaused || isCountingDown || gameThread == null) return;
+            if (isRoundAnimating || isPaused || isCountingDown || gameLoop == null) return;
             String text = inputField.getText().trim();
             inputField.setText("");
             if (!text.isEmpty()) {
@@ -274,6 +224,23 @@ public class  ZombieGamePanel extends JPanel {
             }
         });
 
+        // 글자 입력마다 후보 갱신 (조합 중인 한글도 문서에 들어오므로 여기서 함께 처리)
+        inputField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { onTypingChanged(); }
+            @Override public void removeUpdate(DocumentEvent e) { onTypingChanged(); }
+            @Override public void changedUpdate(DocumentEvent e) { }
+        });
+
+        // F2: 실시간 조준 모드 켜기/끄기
+        getInputMap(WHEN_IN_FOCUSED_WINDOW)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_F2, 0), "toggleTypeAhead");
+        getActionMap().put("toggleTypeAhead", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) {
+                typeAheadMode = !typeAheadMode;
+                onTypingChanged();
+            }
+        });
+
         // TAB: 언제든지 입력창 포커스
         getInputMap(WHEN_IN_FOCUSED_WINDOW)
                 .put(KeyStroke.getKeyStroke(KeyEvent.VK_TAB, 0), "focusInputField");
@@ -283,6 +250,26 @@ public class  ZombieGamePanel extends JPanel {
             }
         });
 
+        // F3: 성능 표시 켜기/끄기
+        getInputMap(WHEN_IN_FOCUSED_WINDOW)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "togglePerfOverlay");
+        getActionMap().put("togglePerfOverlay", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) {
+                debugOverlay = !debugOverlay;
+                viewPanel.repaint();
+            }
+        });
+
+        // F4: 부분 다시 그리기 ↔ 전체 다시 그리기 (비교용)
+        getInputMap(WHEN_IN_FOCUSED_WINDOW)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_F4, 0), "toggleRepaintMode");
+        getActionMap().put("toggleRepaintMode", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) {
+                fullRepaint = !fullRepaint;
+                viewPanel.repaint();
+            }
+        });
+
         // ESC: 일시정지
         getInputMap(WHEN_IN_FOCUSED_WINDOW)
                 .put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "togglePause");
@@ -297,42 +284,47 @@ public class  ZombieGamePanel extends JPanel {
 
     // 🔥 라운드 번호에 따라 배경 이미지 바꾸는 함수
     private void setupRound(int round) {
-        if (round == 1) {
-            backgroundImage = backgroundImage1;
-        } else if (round == 2) {
-            backgroundImage = (backgroundImage2 != null) ? backgroundImage2 : backgroundImage1;
-        } else if (round == 3) {
-            backgroundImage = (backgroundImage3 != null) ? backgroundImage3 : backgroundImage1;
-        } else {
-            backgroundImage = backgroundImage1;
-        }
+        backgroundRound = round;
+        backgroundImage = backgroundCache.source(round);
+        prepareNextBackground();
+        viewPanel.repaint();
+    }
+
+    /** 지금 라운드를 하는 동안 다음 라운드 배경을 미리 늘려 둠 */
+    private void prepareNextBackground() {
+        int next = backgroundRound + 1;
+        if (next > 3) return;
+        backgroundCache.prepare(next, getWidth(), getHeight(), viewPanel.getGraphicsConfiguration());
     }
 
     // ---------------- 게임 시작 / 라운드 ----------------
 
     public void startNewGame(String name) {
         this.playerName = name;
-        this.hp = 5;
-        this.score = 0;
-        this.zombies.clear();
         this.bullets.clear();
-        this.bossZombie = null;
-        this.zombieIdSeq = 1;
-        this.tickCount = 0;
-        this.damageCooldownTicks = 0;
-        this.damageEffectFrames = 0;
-        this.gunShakeFrames = 0;
-        this.damageText = null;
-        this.damageTextFrames = 0;
-        this.bossSpawnCountThisRound = 0;
-        this.dangerNear = false;
-        this.dangerPulseTick = 0;
-        this.screenShakeFrames = 0;
-
-        roundManager.reset();
+
+        long seed = Long.getLong("zombie.seed", System.nanoTime());
+        replay = loadReplay();
+        if (replay != null) seed = replay.getSeed();
+        simulation.reset(seed);
+
+        stress = StressMode.fromProperties();
+        StressMode st = stress;
+        simulation.setStress(st != null ? st.zombies : 0, st != null ? st.spawnPerTick : 0);
+        if (st != null && stressShutdownHook == null) {
+            // 훅은 그때그때의 stress를 저장하므로 새 판마다 다시 등록하지 않음 (이전 판 StressMode를 붙잡지 않음)
+            stressShutdownHook = new Thread(this::finishStress, "stress-csv");
+            Runtime.getRuntime().addShutdownHook(stressShutdownHook);
+        }
+        perf.reset();
+        clock.reset();
+
+        String recordPath = System.getProperty("zombie.record");
+        recording = (recordPath != null && replay == null) ? new InputRecording(seed, viewPanel.getWidth()) : null;
+        simulation.setRecording(recording);
 
         // 🔥 1라운드로 초기화된 상태에서 배경 세팅
-        setupRound(roundManager.getRound());
+        setupRound(simulation.getRound());
 
         updateHud();
         updateHearts();
@@ -342,285 +334,491 @@ public class  ZombieGamePanel extends JPanel {
 
         // 새 게임 시작 시 BGM은 프레임에서 그대로 유지
 
+        if (ActiveRenderer.isRequested()) {
+            activeRenderer.start();
+        }
+
         startRoundEffect();
     }
 
-    private void startRoundEffect() {
-        isRoundAnimating = true;
-        stopGameThread();
-        viewPanel.repaint();
+    /**
+     * 화면 갱신 요청 (능동 렌더링 중이면 렌더 루프가 알아서 그리므로 무시)
+     * - 게임 루프 스레드 / EDT 어디서나 호출 가능
+     *   (다른 스레드에서는 EDT로 넘김, 아직 처리되지 않은 요청이 있으면 그 요청에 합침)
+     * - 부분 다시 그리기: 레이어별로 지난번 그린 영역 ∪ 이번에 그릴 영역만 repaint
+     */
+    private void repaintView() {
+        if (activeRenderer.isRunning()) return;
+        if (!SwingUtilities.isEventDispatchThread()) {
+            if (repaintPosted.compareAndSet(false, true)) SwingUtilities.invokeLater(this::postedRepaint);
+            return;
+        }
+        if (fullRepaint) {
+            viewPanel.repaint();
+            return;
+        }
 
-        Thread effectThread = new Thread(() -> {
-            try { Thread.sleep(2000); } catch (InterruptedException ignored) {}
-            SwingUtilities.invokeLater(() -> {
-                isRoundAnimating = false;
-                if (hp > 0 && roundManager.getRound() <= 3) {
-                    startGameThread();
-                }
-                viewPanel.repaint();
-            });
-        });
-        effectThread.start();
+        GameSimulation.Snapshot s = simulation.snapshot();
+        Rectangle region = repaintRegion;
+        region.setBounds(0, 0, 0, 0);
+        dirty.collect(LAYER_SCENE, sceneKey(s), sceneBounds(s), region);
+        dirty.collect(LAYER_BULLETS, null, bulletBounds(), region);
+        dirty.collect(LAYER_OVERLAY, null, overlayBounds(s), region);
+        if (!region.isEmpty()) viewPanel.repaint(region);
     }
 
-    private void startGameThread() {
-        stopGameThread();
-        gameThread = new GameLoopThread();
-        gameThread.start();
+    private void postedRepaint() {
+        repaintPosted.set(false);
+        repaintView();   // 처리 시점의 최신 스냅샷으로 계산
     }
 
-    private void stopGameThread() {
-        if (gameThread != null) {
-            gameThread.requestStop();
-            gameThread = null;
+    /** paintComponent에서 실제로 그린 내용 기록 (EDT) */
+    private void recordPainted(GameSimulation.Snapshot s, Rectangle clip) {
+        if (fullRepaint) {
+            dirty.reset(fullBounds());
+            return;
         }
+        dirty.painted(LAYER_SCENE, sceneKey(s), sceneBounds(s), clip);
+        dirty.painted(LAYER_BULLETS, null, bulletBounds(), clip);
+        dirty.painted(LAYER_OVERLAY, null, overlayBounds(s), clip);
     }
 
-    private void resetBossForNewRound() {
-        bossZombie = null;
-        bossSpawnCountThisRound = 0;
+    /** 장면 레이어 키: 보간 중이면 같은 스냅샷이라도 프레임마다 위치가 바뀌므로 항상 다시 그림 */
+    private Object sceneKey(GameSimulation.Snapshot s) {
+        return (interpolate && s.stepDistance > 0) ? null : s;
     }
 
-    // ---------------- 메인 게임 틱 ----------------
-
-    private void gameTick() {
-        if (hp <= 0) return;
-        if (isRoundAnimating || isPaused || isCountingDown) return;
+    /** 지금 clip 영역을 into에 복사해 반환 (clip이 없으면 null, Graphics.getClipBounds()와 달리 할당 없음) */
+    private static Rectangle clipBounds(Graphics g, Rectangle into) {
+        into.setBounds(0, 0, -1, -1);
+        g.getClipBounds(into);   // clip이 없으면 into를 그대로 둠
+        return (into.width < 0) ? null : into;
+    }
 
-        tickCount++;
+    /** 화면 전체를 덮는 효과가 보이는 중이면 전체 영역, 아니면 디버그 표시 영역만 */
+    private Rectangle overlayBounds(GameSimulation.Snapshot s) {
+        boolean full = isRoundAnimating || isPaused || isCountingDown
+                || s.screenShakeFrames > 0 || s.dangerNear
+                || s.damageEffectFrames > 0 || s.damageTextFrames > 0 || s.gunShakeFrames > 0;
+        if (full) return fullBounds();
+        Rectangle r = overlayBounds;
+        r.setBounds(0, 0, 0, 0);
+        if (debugOverlay) DirtyRegion.include(r, 0, 0, PERF_BOX_W + 16, 240);
+        if (stress != null) DirtyRegion.include(r, getWidth() - STRESS_BOX_W - 8, 0, STRESS_BOX_W + 8, 110);
+        return r;
+    }
 
-        int round = roundManager.getRound();
-        int spawnInterval;
-        if (round <= 1) spawnInterval = 30;
-        else if (round == 2) spawnInterval = 22;
-        else spawnInterval = 16;
+    /** 화면 전체 영역 (EDT) */
+    private Rectangle fullBounds() {
+        fullBounds.setBounds(0, 0, getWidth(), getHeight());
+        return fullBounds;
+    }
 
-        if (tickCount % spawnInterval == 0) {
-            spawnZombie();
+    /** 날아가는 총알 영역 (EDT) */
+    private Rectangle bulletBounds() {
+        Rectangle r = bulletBounds;
+        r.setBounds(0, 0, 0, 0);
+        int pad = 8;   // 반지름 6 + 안티앨리어싱
+        for (BulletScheduler.Bullet b : bullets.getBullets()) {
+            DirtyRegion.include(r, (int) b.getX() - pad, (int) b.getY() - pad, pad * 2, pad * 2);
         }
+        return r;
+    }
 
-        trySpawnBoss();
-
-        if (damageCooldownTicks > 0) damageCooldownTicks--;
-        if (damageEffectFrames > 0) damageEffectFrames--;
-        if (gunShakeFrames > 0) gunShakeFrames--;
-        if (damageTextFrames > 0) damageTextFrames--;
-
-        boolean damagedThisTick = false;
+    /**
+     * 스냅샷의 좀비 + 보스가 차지하는 영역 (그림자 / 흔들림 / 단어 라벨 포함, 넉넉하게)
+     * - drawZombies / drawBoss와 같은 크기 계산, 스냅샷 1개당 1번만 계산 (EDT, 라벨 캐시를 그리기와 함께 씀)
+     * - 보간 위치는 항상 이번 틱보다 멀리 있어(= 더 작게 그려져) 이 영역 안에 들어감
+     */
+    private Rectangle sceneBounds(GameSimulation.Snapshot s) {
+        if (sceneBoundsOf == s) return sceneBounds;
 
-        // 좀비 이동 속도 (라운드별로)
-        double speedBase = roundManager.getZombieSpeed(); // 1,2,3...
-        double speedPerTick;
-        if (round == 1)      speedPerTick = speedBase * 0.15;
-        else if (round == 2) speedPerTick = speedBase * 0.18;
-        else                 speedPerTick = speedBase * 0.21;
+        Rectangle r = sceneBounds;
+        r.setBounds(0, 0, 0, 0);
+        int groundY = getHeight() * 2 / 3;
+        int pad = 12;   // 흔들림(sway/bob) + 축소 단계 반올림 여유
 
-        dangerNear = false;
+        for (int i = 0; i < s.zombieCount; i++) {
+            int spriteIndex = s.zombieSprites[i];
+            int zx = s.zombieX[i];
+            Image img = horde.zombieImage(spriteIndex);
 
-        Iterator<Zombie> it = zombies.iterator();
-        while (it.hasNext()) {
-            Zombie z = it.next();
-            z.distance -= speedPerTick;
+            if (img != null) {
+                float depthScale = (float) (1.0 - (s.zombieDistances[i] / 120.0));
+                if (depthScale < 0.3f) depthScale = 0.3f;
+                if (depthScale > 1.0f) depthScale = 1.0f;
+                float spriteScale = 0.25f + 0.55f * depthScale;
 
-            if (z.distance <= DANGER_DISTANCE) {
-                dangerNear = true;
+                int drawW = (int) (img.getWidth(this) * spriteScale);
+                int drawH = (int) (img.getHeight(this) * spriteScale);
+                int fontSize = Math.max(14, (int) (24 * spriteScale));
+                int labelW = horde.zombieLabelWidth(s.zombieWords[i], fontSize);
+                int halfW = Math.max(drawW, labelW) / 2;
+                int top = groundY - drawH - 10 - fontSize * 3 / 2;
+                int bottom = groundY + drawH / 10;
+                DirtyRegion.include(r, zx - halfW - pad, top - pad, halfW * 2 + pad * 2, bottom - top + pad * 2);
+            } else {
+                // 스프라이트 없음: 원 + 단어 (기본 글꼴)
+                int size = 100;
+                int textW = s.zombieWords[i].length() * 24;
+                int halfW = Math.max(size / 2, 0);
+                DirtyRegion.include(r, zx - halfW - pad, groundY - size - 30, Math.max(halfW * 2, textW) + pad * 2, size + 30 + pad);
             }
+        }
 
-            if (z.distance <= DAMAGE_DISTANCE_THRESHOLD) {
-                it.remove();
-                if (!damagedThisTick && damageCooldownTicks == 0) {
-                    hp--;
-                    damagedThisTick = true;
-                }
+        if (s.hasBoss) {
+            Image bossImage = horde.getBossImage();
+            if (bossImage == null) {
+                int size = 140;
+                int textW = s.bossWord.length() * 24;
+                DirtyRegion.include(r, s.bossX - size / 2 - pad, groundY - size - 40, Math.max(size, textW) + pad * 2, size + 40 + pad);
+            } else {
+                float depthScale = (float) (1.0 - (s.bossDistance / 120.0));
+                if (depthScale < 0.4f) depthScale = 0.4f;
+                if (depthScale > 1.1f) depthScale = 1.1f;
+
+                int drawW = (int) (bossImage.getWidth(this) * depthScale);
+                int drawH = (int) (bossImage.getHeight(this) * depthScale);
+                int labelW = horde.bossLabelWidth(s.bossWord);
+                int halfW = Math.max(drawW, labelW) / 2;
+                int top = groundY - drawH - 15 - 28 * 3 / 2;
+                int bottom = groundY + drawH / 10;
+                DirtyRegion.include(r, s.bossX - halfW - pad, top - pad, halfW * 2 + pad * 2, bottom - top + pad * 2);
             }
         }
 
-        if (bossZombie != null) {
-            bossZombie.distance -= speedPerTick;
+        sceneBoundsOf = s;
+        return r;
+    }
 
-            if (bossZombie.distance <= DANGER_DISTANCE) {
-                dangerNear = true;
+    private void startRoundEffect() {
+        isRoundAnimating = true;
+        stopGameLoop();
+        repaintView();
+
+        // 2초 배너 후 라운드 시작
+        scheduler.after(2000, () -> SwingUtilities.invokeLater(() -> {
+            isRoundAnimating = false;
+            if (simulation.getHp() > 0 && simulation.getRound() <= 3) {
+                simulation.endIntermission();
+                startGameLoop();
             }
+            repaintView();
+        }));
+    }
 
-            if (bossZombie.distance <= DAMAGE_DISTANCE_THRESHOLD) {
-                if (damageCooldownTicks == 0) {
-                    hp -= 2;
-                    damagedThisTick = true;
-                }
-                bossZombie = null;
-            }
+    /** 일시정지 해제 3-2-1 카운트다운 (1초마다 숫자 갱신, 끝나면 EDT에서 게임 재개) */
+    private void startResumeCountdown() {
+        isCountingDown = true;
+        for (int i = 3; i >= 1; i--) {
+            int value = i;
+            scheduler.after((3 - i) * 1000L, () -> {
+                countdownValue = value;
+                repaintView();
+            });
         }
+        scheduler.after(3000, () -> SwingUtilities.invokeLater(() -> {
+            countdownValue = 0;
+            isPaused = false;
+            isCountingDown = false;
 
-        if (dangerNear) dangerPulseTick++; else dangerPulseTick = 0;
+            // 일시정지 해제 시 BGM 재개 (현재 음소거 상태면 재개하지 않음)
+            frame.resumeBgmForPauseMenu();
 
-        if (damagedThisTick) {
-            damageCooldownTicks = DAMAGE_COOLDOWN_MAX;
-            damageEffectFrames = 12;
-            gunShakeFrames = 12;
-            screenShakeFrames = 12;  // ★ 화면 흔들림 추가
-            damageText = (Math.random() < 0.5) ? "물림!" : "윽!";
-            damageTextFrames = 20;
+            startGameLoop();
+            inputField.requestFocusInWindow();
+        }));
+    }
 
-            updateHearts();
-            if (hp <= 0) {
-                gameOver();
-                return;
-            }
+    /**
+     * 메인 게임 루프 시작
+     * - 시뮬레이션 틱은 실행기 스레드에서 직접 진행 (EDT가 밀려도 게임 시간은 그대로)
+     * - EDT에는 HUD 갱신 / 게임 오버 처리만 넘긴다
+     */
+    private void startGameLoop() {
+        stopGameLoop();
+        perf.tickPaused();   // 멈춰 있던 시간은 틱 간격에서 제외
+        frameNanos = displayFrameNanos();
+        long now = System.nanoTime();
+        clock.resume(now, simulation.getTotalTicks());
+        gameLoop = scheduler.loop(clock.nanosUntilNextStep(now), this::gameFrame);
+    }
+
+    private void stopGameLoop() {
+        GameScheduler.Task t = gameLoop;
+        if (t != null) {
+            t.cancel();
+            gameLoop = null;
         }
+        clock.pause(System.nanoTime(), simulation.getTotalTicks());
+    }
 
-        viewPanel.repaint();
+    /** 화면 주사율에 맞춘 그리기 간격 (알 수 없으면 60Hz) */
+    private long displayFrameNanos() {
+        int hz = DisplayMode.REFRESH_RATE_UNKNOWN;
+        GraphicsConfiguration gc = viewPanel.getGraphicsConfiguration();
+        if (gc != null) hz = gc.getDevice().getDisplayMode().getRefreshRate();
+        if (hz <= 0) hz = 60;
+        return Math.max(1_000_000_000L / hz, MIN_FRAME_NANOS);
     }
 
-    // 다른 좀비와 너무 겹쳐서 스폰되지 않도록 체크
-    private boolean isSpawnTooClose(int xPos) {
-        for (Zombie z : zombies) {
-            if (Math.abs(z.xPos - xPos) < 90 && z.distance > 30) {
-                return true;
-            }
-        }
-        if (bossZombie != null && Math.abs(bossZombie.xPos - xPos) < 120) {
-            return true;
-        }
-        return false;
+    /** 한 판 종료: 틱 / 카운트다운 / 배너 예약을 모두 취소하고 총알 타이머도 멈춤 */
+    private void stopGameTasks() {
+        stopGameLoop();
+        scheduler.cancelAll();
+        bullets.clear();
     }
 
-    private void spawnZombie() {
-        String w = WordManager.getInstance().getRandomWord();
+    // ---------------- 메인 게임 틱 ----------------
 
-        int xPos;
-        int attempts = 0;
-        do {
-            xPos = (int) (viewPanel.getWidth() * (0.15 + Math.random() * 0.7));
-            attempts++;
-        } while (attempts < 10 && isSpawnTooClose(xPos));
+    /**
+     * 게임 루프 1회 (실행기 스레드)
+     * - 시계가 정한 만큼 틱 진행 (늦었으면 따라잡기), 보간 중이면 틱이 없어도 화면 갱신 요청
+     * @return 다음 호출까지 기다릴 시간 (나노초), 게임 오버면 -1
+     */
+    private long gameFrame() {
+        if (isRoundAnimating || isPaused || isCountingDown) {
+            clock.pause(System.nanoTime(), simulation.getTotalTicks());
+            perf.tickPaused();
+            return frameNanos;
+        }
 
-        int spriteIndex = (int) (Math.random() * zombieImages.length);
-        if (spriteIndex < 0) spriteIndex = 0;
-        if (spriteIndex >= zombieImages.length) spriteIndex = zombieImages.length - 1;
+        int steps = clock.advance(System.nanoTime());
+        for (int i = 0; i < steps; i++) {
+            if (!gameTick()) return -1;
+        }
+        clock.stepped(simulation.getTotalTicks());
 
-        zombies.add(new Zombie(zombieIdSeq++, w, 100.0, xPos, spriteIndex));
-    }
+        if (steps > 0 || interpolate) repaintView();
 
-    private void trySpawnBoss() {
-        int round = roundManager.getRound();
+        long untilNext = clock.nanosUntilNextStep(System.nanoTime());
+        return interpolate ? Math.min(untilNext, frameNanos) : untilNext;
+    }
 
-        int limit;
-        if (round >= 0 && round < BOSS_SPAWN_LIMIT.length) {
-            limit = BOSS_SPAWN_LIMIT[round];
+    /**
+     * 게임 루프 스레드에서 호출: 시뮬레이션 1틱 진행
+     * @return 루프를 계속 돌려야 하면 true (게임 오버면 false)
+     */
+    private boolean gameTick() {
+
+        InputRecording rp = replay;
+        InputRecording rec = recording;
+        if (rp != null) {
+            playRecordedShots(rp);
+            simulation.setFieldWidth(rp.getFieldWidth());
+        } else if (rec != null) {
+            // 녹화 중에는 시작할 때 적어 둔 폭 고정 (스폰 X가 폭에 따라 바뀌므로 창 크기를 바꿔도 재생이 같아야 함)
+            simulation.setFieldWidth(rec.getFieldWidth());
         } else {
-            limit = BOSS_SPAWN_LIMIT[BOSS_SPAWN_LIMIT.length - 1];
+            simulation.setFieldWidth(viewPanel.getWidth());
+        }
+        GameEvents.GameTick ev = GameEvents.TICK.isEnabled() ? new GameEvents.GameTick() : null;
+        if (ev != null) ev.begin();
+        long t0 = System.nanoTime();
+        perf.tickStarted(t0);
+        GameSimulation.TickResult result = simulation.step();
+        perf.tick.add(System.nanoTime() - t0);
+        if (ev != null) ev.end();
+        if (ev != null && ev.shouldCommit()) {
+            GameSimulation.Snapshot s = simulation.snapshot();
+            ev.tick = simulation.getTotalTicks();
+            ev.round = s.round;
+            ev.zombies = s.zombieCount;
+            ev.boss = s.hasBoss;
+            ev.result = result.name();
+            ev.commit();
+        }
+        if (debugOverlay) perf.probeEdt();
+
+        StressMode st = stress;
+        if (st != null) {
+            stressBulletsDue += st.bulletsPerSecond * GameSimulation.TICK_MS / 1000.0;
+            int n = (int) stressBulletsDue;
+            if (n > 0) {
+                stressBulletsDue -= n;
+                SwingUtilities.invokeLater(() -> fireStressBullets(n));
+            }
+            GameSimulation.Snapshot s = simulation.snapshot();
+            st.sample(s.zombieCount + (s.hasBoss ? 1 : 0), bullets.getInFlightCount(), perf.tick, perf.paint);
         }
 
-        if (limit == 0) return;
-        if (bossZombie != null) return;
-        if (bossSpawnCountThisRound >= limit) return;
+        if (result == GameSimulation.TickResult.GAME_OVER) {
+            SwingUtilities.invokeLater(() -> {
+                updateHearts();
+                gameOver();
+            });
+            return false;
+        }
+        if (result == GameSimulation.TickResult.DAMAGED) {
+            SwingUtilities.invokeLater(this::updateHearts);
+        }
+        return true;
+    }
 
-        int interval;
-        if (round <= 1) interval = 220;
-        else if (round == 2) interval = 170;
-        else interval = 130;
+    /** 부하 테스트: 아무 좀비에게나 총알 n발 (판정 없이 애니메이션만, EDT) */
+    private void fireStressBullets(int n) {
+        GameSimulation.Snapshot s = simulation.snapshot();
+        if (s.zombieCount == 0) return;
+
+        int startX = (gunDrawW > 0) ? gunDrawX + (int) (gunDrawW * 0.75) : getWidth() - 100;
+        int startY = (gunDrawH > 0) ? gunDrawY + (int) (gunDrawH * 0.35) : getHeight() - 100;
+        Point p = pointPool.acquire();
+        for (int k = 0; k < n; k++) {
+            int i = ThreadLocalRandom.current().nextInt(s.zombieCount);
+            computeZombieCenter(s.zombieX[i], s.zombieDistances[i], s.zombieSprites[i], p);
+            bullets.fire(startX, startY, p.x, p.y);
+        }
+        pointPool.release(p);
+    }
 
-        if (tickCount % interval == 0) {
-            spawnBoss(round);
+    /** 부하 테스트 결과 CSV 저장 (한 판이 끝날 때) */
+    private void finishStress() {
+        StressMode st = stress;
+        if (st != null) st.writeCsv();
+    }
+
+    /** 재생 중: 지금 틱까지 기록된 사격을 게임 루프 스레드에서 바로 판정 (화면 연출만 EDT로) */
+    private void playRecordedShots(InputRecording rp) {
+        String text;
+        while ((text = rp.pollDue(simulation.getTotalTicks())) != null) {
+            GameSimulation.ShotResult shot = shootRecorded(text, true);
+            if (shot.kind != GameSimulation.ShotResult.MISS) {
+                SwingUtilities.invokeLater(() -> applyShot(shot));
+            }
         }
     }
 
-    private void spawnBoss(int round) {
-        // 🔥 항상 3개의 단어를 사용하는 보스
-        String[] bossWords = BossWordManager.getInstance().getRandomBossWords(3);
+    private InputRecording loadReplay() {
+        String path = System.getProperty("zombie.replay");
+        if (path == null) return null;
+        try {
+            return InputRecording.load(new File(path));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("입력 기록 읽기 실패: " + path + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
 
-        int xPos = getWidth() / 2;
-        bossZombie = new BossZombie(zombieIdSeq++, bossWords, 100.0, xPos);
-        bossSpawnCountThisRound++;
+    /** 한 판이 끝나면 입력 기록 저장 */
+    private void saveRecording() {
+        String path = System.getProperty("zombie.record");
+        if (recording == null || path == null) return;
+        try {
+            recording.save(new File(path));
+        } catch (IOException e) {
+            System.err.println("입력 기록 저장 실패: " + path + " (" + e.getMessage() + ")");
+        }
+        simulation.setRecording(null);
+        recording = null;
     }
 
     // ---------------- 그리기 ----------------
 
-    private void drawGameScreen(Graphics2D g2d) {
+    /** 한 프레임 그리기 (한 프레임 동안은 같은 스냅샷만 사용) */
+    private void drawGameScreen(Graphics2D g2d, GameSimulation.Snapshot s, int width, int height) {
+        frameW = width;
+        frameH = height;
+        // JFR로 기록 중일 때만 이벤트 객체를 만듦 (매 프레임 할당 없음)
+        GameEvents.Paint ev = GameEvents.PAINT.isEnabled() ? new GameEvents.Paint() : null;
+        if (ev != null) ev.begin();
+        long t0 = System.nanoTime();
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        res.beginFrame();
 
-        // ★ 화면 흔들림 계산
-        int shakeX = 0;
-        int shakeY = 0;
-        if (screenShakeFrames > 0) {
-            double power = 6.0; // 흔들림 강도
-            shakeX = (int) ((Math.random() - 0.5) * 2 * power);
-            shakeY = (int) ((Math.random() - 0.5) * 2 * power);
-            screenShakeFrames--;
-        }
+        // ★ 화면 흔들림 (시뮬레이션이 틱마다 정한 값)
+        int shakeX = s.shakeX;
+        int shakeY = s.shakeY;
 
         // ★ 전체 화면을 살짝 이동
         g2d.translate(shakeX, shakeY);
 
-        if (backgroundImage != null) {
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        BufferedImage bg = backgroundCache.get(backgroundRound, frameW, frameH,
+                viewPanel.getGraphicsConfiguration());
+        if (bg != null) {
+            // 다시 그릴 영역(clip)만 그대로 복사
+            Rectangle clip = clipBounds(g2d, drawClip);
+            if (clip == null) {
+                clip = drawClip;
+                clip.setBounds(0, 0, bg.getWidth(), bg.getHeight());
+            }
+            int x1 = Math.max(0, clip.x), y1 = Math.max(0, clip.y);
+            int x2 = Math.min(bg.getWidth(), clip.x + clip.width);
+            int y2 = Math.min(bg.getHeight(), clip.y + clip.height);
+            if (x2 > x1 && y2 > y1) {
+                g2d.drawImage(bg, x1, y1, x2, y2, x1, y1, x2, y2, null);
+            }
+        } else if (backgroundImage != null) {
+            g2d.drawImage(backgroundImage, 0, 0, frameW, frameH, this);
         } else {
             g2d.setColor(Color.BLACK);
-            g2d.fillRect(0, 0, getWidth(), getHeight());
+            g2d.fillRect(0, 0, frameW, frameH);
         }
 
-        drawZombies(g2d);
-        drawBoss(g2d);
+        double lerp = interpolate ? clock.alpha(s.totalTicks, System.nanoTime()) : 1.0;
+        int groundY = frameH * 2 / 3;
+        GraphicsConfiguration gc = viewPanel.getGraphicsConfiguration();
+        horde.drawZombies(g2d, s, lerp, groundY, gc);
+        horde.drawBoss(g2d, s, lerp, groundY, gc);
         drawBullets(g2d);
-        drawGun(g2d);
+        drawGun(g2d, s);
         drawCrosshair(g2d);
 
         // 근접 경고
-        if (dangerNear && damageEffectFrames <= 0) {
-            double pulse = 0.5 + 0.5 * Math.sin(dangerPulseTick * 0.25);
+        if (s.dangerNear && s.damageEffectFrames <= 0) {
+            double pulse = 0.5 + 0.5 * Math.sin(s.dangerPulseTick * 0.25);
             int alpha = (int) (40 + 50 * pulse);
-            g2d.setColor(new Color(255, 0, 0, alpha));
+            g2d.setColor(res.color(255, 0, 0, alpha));
 
             int t = 25;
-            g2d.fillRect(0, 0, getWidth(), t);
-            g2d.fillRect(0, getHeight() - t, getWidth(), t);
-            g2d.fillRect(0, 0, t, getHeight());
-            g2d.fillRect(getWidth() - t, 0, t, getHeight());
+            g2d.fillRect(0, 0, frameW, t);
+            g2d.fillRect(0, frameH - t, frameW, t);
+            g2d.fillRect(0, 0, t, frameH);
+            g2d.fillRect(frameW - t, 0, t, frameH);
 
             String warn = "위험!";
-            g2d.setFont(new Font("맑은 고딕", Font.BOLD, 26));
+            g2d.setFont(res.font("맑은 고딕", Font.BOLD, 26));
             FontMetrics fm = g2d.getFontMetrics();
             int w = fm.stringWidth(warn);
-            int x = (getWidth() - w) / 2;
-            int y = getHeight() - 40;
+            int x = (frameW - w) / 2;
+            int y = frameH - 40;
             g2d.setColor(Color.BLACK);
             g2d.drawString(warn, x + 2, y + 2);
             g2d.setColor(Color.WHITE);
             g2d.drawString(warn, x, y);
         }
 
-        if (damageEffectFrames > 0) {
-            g2d.setColor(new Color(255, 0, 0, 70));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
+        if (s.damageEffectFrames > 0) {
+            g2d.setColor(res.color(255, 0, 0, 70));
+            g2d.fillRect(0, 0, frameW, frameH);
         }
-        if (damageTextFrames > 0 && damageText != null) {
-            g2d.setFont(new Font("맑은 고딕", Font.BOLD, 40));
+        if (s.damageTextFrames > 0 && s.damageText != null) {
+            g2d.setFont(res.font("맑은 고딕", Font.BOLD, 40));
             FontMetrics fm = g2d.getFontMetrics();
-            int w = fm.stringWidth(damageText);
-            int x = (getWidth() - w) / 2;
-            int y = getHeight() / 2;
+            int w = fm.stringWidth(s.damageText);
+            int x = (frameW - w) / 2;
+            int y = frameH / 2;
             g2d.setColor(Color.BLACK);
-            g2d.drawString(damageText, x + 3, y + 3);
+            g2d.drawString(s.damageText, x + 3, y + 3);
             g2d.setColor(Color.WHITE);
-            g2d.drawString(damageText, x, y);
+            g2d.drawString(s.damageText, x, y);
         }
 
         if (isRoundAnimating) {
-            drawRoundEffect(g2d);
+            drawRoundEffect(g2d, s);
         }
 
         if (isPaused || isCountingDown) {
-            g2d.setColor(new Color(50, 50, 50, 150));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
+            g2d.setColor(res.color(50, 50, 50, 150));
+            g2d.fillRect(0, 0, frameW, frameH);
         }
 
         if (isPaused && !isCountingDown) {
-            g2d.setFont(new Font("맑은 고딕", Font.BOLD, 32));
+            g2d.setFont(res.font("맑은 고딕", Font.BOLD, 32));
             String msg = "일시 정지";
             FontMetrics fm = g2d.getFontMetrics();
             int w = fm.stringWidth(msg);
-            int x = (getWidth() - w) / 2;
-            int y = getHeight() / 2;
+            int x = (frameW - w) / 2;
+            int y = frameH / 2;
             g2d.setColor(Color.BLACK);
             g2d.drawString(msg, x + 2, y + 2);
             g2d.setColor(Color.WHITE);
@@ -628,12 +826,12 @@ public class  ZombieGamePanel extends JPanel {
         }
 
         if (isCountingDown && countdownValue > 0) {
-            String msg = String.valueOf(countdownValue);
-            g2d.setFont(new Font("Verdana", Font.BOLD, 80));
+            String msg = label(COUNTDOWN_LABELS, countdownValue);
+            g2d.setFont(res.font("Verdana", Font.BOLD, 80));
             FontMetrics fm = g2d.getFontMetrics();
             int w = fm.stringWidth(msg);
-            int x = (getWidth() - w) / 2;
-            int y = getHeight() / 2;
+            int x = (frameW - w) / 2;
+            int y = frameH / 2;
             g2d.setColor(Color.BLACK);
             g2d.drawString(msg, x + 3, y + 3);
             g2d.setColor(Color.YELLOW);
@@ -642,19 +840,109 @@ public class  ZombieGamePanel extends JPanel {
 
         // ★ 이동한 만큼 다시 원위치
         g2d.translate(-shakeX, -shakeY);
+
+        res.endFrame();
+        perf.paint.add(System.nanoTime() - t0);
+        if (ev != null) ev.end();
+        if (ev != null && ev.shouldCommit()) {
+            Rectangle clip = clipBounds(g2d, drawClip);
+            ev.round = s.round;
+            ev.zombies = s.zombieCount;
+            ev.bullets = bullets.getInFlightCount();
+            ev.clipArea = (clip != null) ? (long) clip.width * clip.height : (long) frameW * frameH;
+            ev.fullRepaint = fullRepaint || activeRenderer.isRunning();
+            ev.commit();
+        }
+
+        // 측정용 표시는 측정(프레임 시간 / 할당 수)에서 제외
+        if (debugOverlay) {
+            drawPerfOverlay(g2d, s);
+        }
+        if (stress != null) {
+            drawStressOverlay(g2d, s);
+        }
     }
 
-    private void drawRoundEffect(Graphics2D g2d) {
-        String msg = "ROUND " + roundManager.getRound();
-        g2d.setFont(new Font("Verdana", Font.BOLD, 80));
+    private static final int STRESS_BOX_W = 300;
+
+    /** 부하 테스트: 틱 / 그리기 p50·p99, 개체 수 (화면 오른쪽 위) */
+    private void drawStressOverlay(Graphics2D g2d, GameSimulation.Snapshot s) {
+        String[] lines = {
+                "STRESS  좀비 " + s.zombieCount + (s.hasBoss ? " + 보스 1" : "") + "  총알 " + bullets.getInFlightCount(),
+                String.format("tick  p50 %.2f ms  p99 %.2f ms", perf.tick.percentileMs(50), perf.tick.percentileMs(99)),
+                String.format("paint p50 %.2f ms  p99 %.2f ms", perf.paint.percentileMs(50), perf.paint.percentileMs(99))
+        };
+
+        g2d.setFont(res.font("Monospaced", Font.PLAIN, 12));
+        FontMetrics fm = g2d.getFontMetrics();
+        int lineH = fm.getHeight();
+        int x = frameW - STRESS_BOX_W - 8;
+
+        g2d.setColor(res.color(0, 0, 0, 160));
+        g2d.fillRect(x, 8, STRESS_BOX_W, lineH * lines.length + 8);
+
+        g2d.setColor(Color.YELLOW);
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], x + 6, 8 + fm.getAscent() + 4 + lineH * i);
+        }
+    }
+
+    private static final int PERF_BOX_W = 360;
+
+    /** 성능 표시 (F3): 최근 512개 기준 평균 / p99, 개체 수, 스레드 / 예약 작업 / 버린 틱, GC, 할당, 객체 풀, 능동 렌더링 프레임 시간 */
+    private void drawPerfOverlay(Graphics2D g2d, GameSimulation.Snapshot s) {
+        String[] lines = {
+                timingLine("tick    ", perf.tick),
+                timingLine("paint   ", perf.paint),
+                timingLine("간격    ", perf.tickInterval) + " (목표 " + GameSimulation.TICK_MS + ")",
+                timingLine("EDT 지연", perf.edtLag),
+                "좀비 " + s.zombieCount + "  보스 " + (s.hasBoss ? 1 : 0) + "  총알 " + bullets.getInFlightCount(),
+                "스레드 " + perf.getThreadCount() + "  예약 작업 " + scheduler.getPendingCount() + "  버린 틱 " + clock.getDroppedSteps(),
+                "GC " + perf.getGcCount() + "회 / " + perf.getGcTimeMs() + " ms"
+                        + String.format(" (최근 %.1f ms/s)", perf.getGcMsPerSecond()),
+                "그리기 할당 " + res.getLastFrameAllocations() + "개 / " + res.getLastFrameAllocatedBytes() + " B",
+                activeRenderer.isRunning()
+                        ? String.format("능동 렌더링 %.2f ms (평균 %.2f) / %d프레임",
+                                activeRenderer.getLastFrameMs(), activeRenderer.getAverageFrameMs(), activeRenderer.getFrameCount())
+                        : "능동 렌더링 꺼짐 (repaint)",
+                bullets.getPool().summary(),
+                pointPool.summary()
+        };
+
+        g2d.setFont(res.font("Monospaced", Font.PLAIN, 12));
+        FontMetrics fm = g2d.getFontMetrics();
+        int lineH = fm.getHeight();
+
+        g2d.setColor(res.color(0, 0, 0, 160));
+        g2d.fillRect(8, 8, PERF_BOX_W, lineH * lines.length + 8);
+
+        g2d.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], 14, 8 + fm.getAscent() + 4 + lineH * i);
+        }
+    }
+
+    private static String timingLine(String name, TimingStats t) {
+        return String.format("%s avg %6.2f  p99 %6.2f  max %6.2f ms", name, t.averageMs(), t.percentileMs(99), t.maxMs());
+    }
+
+    /** 미리 만들어 둔 문구 (범위 밖이면 그때만 새로 만듦) */
+    private static String label(String[] labels, int n) {
+        if (n >= 0 && n < labels.length) return labels[n];
+        return (labels == ROUND_LABELS) ? "ROUND " + n : String.valueOf(n);
+    }
+
+    private void drawRoundEffect(Graphics2D g2d, GameSimulation.Snapshot s) {
+        String msg = label(ROUND_LABELS, s.round);
+        g2d.setFont(res.font("Verdana", Font.BOLD, 80));
         FontMetrics fm = g2d.getFontMetrics();
         int textW = fm.stringWidth(msg);
 
-        int cx = getWidth() / 2;
-        int cy = getHeight() / 2;
+        int cx = frameW / 2;
+        int cy = frameH / 2;
 
-        g2d.setColor(new Color(0, 0, 0, 180));
-        g2d.fillRect(0, 0, getWidth(), getHeight());
+        g2d.setColor(res.color(0, 0, 0, 180));
+        g2d.fillRect(0, 0, frameW, frameH);
 
         g2d.setColor(Color.BLACK);
         g2d.drawString(msg, cx - textW / 2 + 4, cy + 4);
@@ -664,7 +952,7 @@ public class  ZombieGamePanel extends JPanel {
     }
 
     // ----------- 총기 그리기 (화면 비율에 맞게, 손 보이게) -----------
-    private void drawGun(Graphics2D g2d) {
+    private void drawGun(Graphics2D g2d, GameSimulation.Snapshot s) {
         if (gunImage == null) return;
 
         int iw = gunImage.getWidth(this);
@@ -672,8 +960,8 @@ public class  ZombieGamePanel extends JPanel {
 
         double baseScale = 0.8;
 
-        double maxByWidth  = (getWidth()  * 0.50) / iw;
-        double maxByHeight = (getHeight() * 0.60) / ih;
+        double maxByWidth  = (frameW  * 0.50) / iw;
+        double maxByHeight = (frameH * 0.60) / ih;
 
         double scale = Math.min(baseScale, Math.min(maxByWidth, maxByHeight));
 
@@ -682,12 +970,12 @@ public class  ZombieGamePanel extends JPanel {
 
         int marginRight  = 40;
         int marginBottom = 35;
-        int x = getWidth()  - drawW - marginRight;
-        int y = getHeight() - drawH - marginBottom;
+        int x = frameW  - drawW - marginRight;
+        int y = frameH - drawH - marginBottom;
 
-        if (gunShakeFrames > 0) {
-            int sx = (int) (Math.sin(gunShakeFrames * 0.7) * 6);
-            int sy = (int) (Math.cos(gunShakeFrames * 0.7) * 4);
+        if (s.gunShakeFrames > 0) {
+            int sx = (int) (Math.sin(s.gunShakeFrames * 0.7) * 6);
+            int sy = (int) (Math.cos(s.gunShakeFrames * 0.7) * 4);
             x += sx;
             y += sy;
         }
@@ -701,163 +989,90 @@ public class  ZombieGamePanel extends JPanel {
     }
 
     private void drawBullets(Graphics2D g2d) {
-        g2d.setColor(new Color(255, 230, 80));
+        g2d.setColor(res.color(255, 230, 80));
         int r = 6;
-        for (Bullet b : bullets) {
-            g2d.fillOval((int) b.x - r, (int) b.y - r, r * 2, r * 2);
+        for (BulletScheduler.Bullet b : bullets.getBullets()) {
+            g2d.fillOval((int) b.getX() - r, (int) b.getY() - r, r * 2, r * 2);
         }
     }
 
     private void drawCrosshair(Graphics2D g2d) {
-        int cx = getWidth() / 2;
-        int cy = getHeight() / 2;
-        g2d.setColor(new Color(255, 255, 255, 150));
-        g2d.setStroke(new BasicStroke(2));
+        int cx = frameW / 2;
+        int cy = frameH / 2;
+        g2d.setColor(res.color(255, 255, 255, 150));
+        g2d.setStroke(res.stroke(2));
         g2d.drawLine(cx - 12, cy, cx + 12, cy);
         g2d.drawLine(cx, cy - 12, cx, cy + 12);
     }
 
-    private void drawZombies(Graphics2D g2d) {
-        int groundY = getHeight() * 2 / 3;
+    // ---------------- 입력/사격 처리 ----------------
 
-        boolean anySprite = false;
-        for (Image img : zombieImages) {
-            if (img != null) { anySprite = true; break; }
+    /** 입력창 내용이 바뀔 때마다 (DocumentListener, EDT) */
+    private void onTypingChanged() {
+        if (!typeAheadMode) {
+            // 미리 보기 끔: 남아 있는 후보 표시가 있을 때만 한 번 지움 (키 입력마다 스냅샷 / repaint 없음)
+            if (simulation.clearTyping()) repaintView();
+            return;
         }
 
-        for (Zombie z : zombies) {
-            if (anySprite &&
-                    z.spriteIndex >= 0 && z.spriteIndex < zombieImages.length &&
-                    zombieImages[z.spriteIndex] != null) {
-
-                Image img = zombieImages[z.spriteIndex];
-                int iw = img.getWidth(this);
-                int ih = img.getHeight(this);
-
-                float depthScale = (float) (1.0 - (z.distance / 120.0));
-                if (depthScale < 0.3f) depthScale = 0.3f;
-                if (depthScale > 1.0f) depthScale = 1.0f;
-
-                float spriteScale = 0.25f + 0.55f * depthScale;
-
-                int drawW = (int) (iw * spriteScale);
-                int drawH = (int) (ih * spriteScale);
-
-                double t = (tickCount + z.id * 5) * 0.15;
-                int sway = (int) (Math.cos(t) * 3 * depthScale);
-                int bob = (int) (Math.sin(t) * 5 * depthScale);
-
-                int xPos = z.xPos - drawW / 2 + sway;
-                int yPos = groundY - drawH + bob;
-
-                int shadowW = (int) (drawW * 0.7);
-                int shadowH = (int) (drawH * 0.15);
-                int shadowX = z.xPos - shadowW / 2 + sway;
-                int shadowY = groundY - shadowH / 2;
-                g2d.setColor(new Color(0, 0, 0, 80));
-                g2d.fillOval(shadowX, shadowY, shadowW, shadowH);
-
-                g2d.drawImage(img, xPos, yPos, drawW, drawH, this);
-
-                int fontSize = Math.max(14, (int) (24 * spriteScale));
-                g2d.setFont(new Font("맑은 고딕", Font.BOLD, fontSize));
-                FontMetrics fm = g2d.getFontMetrics();
-                int textWidth = fm.stringWidth(z.word);
-
-                int textX = xPos + drawW / 2 - textWidth / 2;
-                int textY = yPos - 10;
-
-                g2d.setColor(Color.BLACK);
-                g2d.drawString(z.word, textX + 1, textY + 1);
-                g2d.drawString(z.word, textX - 1, textY + 1);
-
-                g2d.setColor(Color.RED);
-                g2d.drawString(z.word, textX, textY);
-            } else {
-                float scale = (float) (1.0 - (z.distance / 120.0));
-                if (scale < 0.25f) scale = 0.25f;
-                if (scale > 1.0f) scale = 1.0f;
+        String text = inputField.getText();
+        boolean fire = simulation.updateTyping(text);
+        repaintView();
 
-                int zombieSize = (int) (100 * scale);
-                int yPos = groundY - zombieSize;
-                int xPos = z.xPos - zombieSize / 2;
-
-                g2d.setColor(new Color(0, 120, 0, 180));
-                g2d.fillOval(xPos, yPos, zombieSize, zombieSize);
-
-                g2d.setColor(Color.WHITE);
-                g2d.drawString(z.word, xPos, yPos - 5);
-            }
+        if (fire) {
+            // 알림 중에는 문서를 바꿀 수 없으므로 다음 이벤트에서 발사
+            SwingUtilities.invokeLater(() -> autoFire(text));
         }
     }
 
-    private void drawBoss(Graphics2D g2d) {
-        if (bossZombie == null) return;
-
-        int groundY = getHeight() * 2 / 3;
-
-        if (bossImage == null) {
-            int size = 140;
-            int yPos = groundY - size;
-            int xPos = bossZombie.xPos - size / 2;
-
-            g2d.setColor(new Color(180, 0, 0, 180));
-            g2d.fillOval(xPos, yPos, size, size);
-            g2d.setColor(Color.YELLOW);
-            g2d.setStroke(new BasicStroke(3));
-            g2d.drawOval(xPos, yPos, size, size);
-
-            g2d.setFont(new Font("맑은 고딕", Font.BOLD, 22));
-            g2d.setColor(Color.WHITE);
-            g2d.drawString(bossZombie.word, xPos, yPos - 10);
-            return;
-        }
-
-        int iw = bossImage.getWidth(this);
-        int ih = bossImage.getHeight(this);
-
-        float depthScale = (float) (1.0 - (bossZombie.distance / 120.0));
-        if (depthScale < 0.4f) depthScale = 0.4f;
-        if (depthScale > 1.1f) depthScale = 1.1f;
-
-        int drawW = (int) (iw * depthScale);
-        int drawH = (int) (ih * depthScale);
-
-        double t = (tickCount + bossZombie.id * 5) * 0.1;
-        int sway = (int) (Math.sin(t) * 4);
-        int bob = (int) (Math.cos(t * 0.7) * 4);
-
-        int xPos = bossZombie.xPos - drawW / 2 + sway;
-        int yPos = groundY - drawH + bob;
+    private void autoFire(String text) {
+        if (isRoundAnimating || isPaused || isCountingDown || gameLoop == null) return;
 
-        int shadowW = (int) (drawW * 0.8);
-        int shadowH = (int) (drawH * 0.18);
-        int shadowX = bossZombie.xPos - shadowW / 2 + sway;
-        int shadowY = groundY - shadowH / 2;
-        g2d.setColor(new Color(0, 0, 0, 90));
-        g2d.fillOval(shadowX, shadowY, shadowW, shadowH);
+        // 조합 중인 글자가 있으면 먼저 확정 (확정으로 다시 불린 알림은 아래 비교로 걸러짐)
+        InputContext ic = inputField.getInputContext();
+        if (ic != null) ic.endComposition();
 
-        g2d.drawImage(bossImage, xPos, yPos, drawW, drawH, this);
-
-        g2d.setFont(new Font("맑은 고딕", Font.BOLD, 28));
-        FontMetrics fm = g2d.getFontMetrics();
-        int textW = fm.stringWidth(bossZombie.word);
+        if (!inputField.getText().equals(text)) return;   // 그 사이 입력이 바뀜
+        inputField.setText("");
+        handleShot(text);
+    }
 
-        int textX = xPos + drawW / 2 - textW / 2;
-        int textY = yPos - 15;
+    private void handleShot(String text) {
+        if (replay != null) return;   // 재생 중에는 기록된 입력만 사용
 
-        g2d.setColor(Color.BLACK);
-        g2d.drawString(bossZombie.word, textX + 2, textY + 2);
+        String typed = text.trim();
+        if (typed.isEmpty()) return;
 
-        g2d.setColor(Color.YELLOW);
-        g2d.drawString(bossZombie.word, textX, textY);
+        // 판정은 시뮬레이션에서 (일반 좀비 → 보스 순)
+        applyShot(shootRecorded(typed, false));
     }
 
-    // ---------------- 입력/사격 처리 ----------------
+    /** simulation.shoot + JFR 사격 이벤트 (EDT / 재생 중에는 게임 루프 스레드) */
+    private GameSimulation.ShotResult shootRecorded(String typed, boolean fromReplay) {
+        GameEvents.Shot ev = GameEvents.SHOT.isEnabled() ? new GameEvents.Shot() : null;
+        if (ev == null) return simulation.shoot(typed);
+
+        ev.begin();
+        GameSimulation.ShotResult shot = simulation.shoot(typed);
+        ev.end();
+        if (ev.shouldCommit()) {
+            GameSimulation.Snapshot s = simulation.snapshot();
+            ev.round = s.round;
+            ev.zombies = s.zombieCount;
+            ev.wordLength = typed.length();
+            ev.wordsMatched = (shot.kind == GameSimulation.ShotResult.MISS) ? 0 : 1;
+            ev.target = (shot.kind == GameSimulation.ShotResult.ZOMBIE) ? "ZOMBIE"
+                    : (shot.kind == GameSimulation.ShotResult.BOSS) ? "BOSS" : "MISS";
+            ev.killed = shot.killed;
+            ev.replay = fromReplay;
+            ev.commit();
+        }
+        return shot;
+    }
 
-    private void handleShot(String text) {
-        String typed = text.trim();
-        if (typed.isEmpty()) return;
+    /** 사격 결과에 따른 총알 / 라운드 / HUD 처리 (EDT) */
+    private void applyShot(GameSimulation.ShotResult shot) {
+        if (shot.kind == GameSimulation.ShotResult.MISS) return;
 
         // 총알 출발 위치 (총 이미지 기준)
         int startX, startY;
@@ -869,90 +1084,58 @@ public class  ZombieGamePanel extends JPanel {
             startY = getHeight() - 100;
         }
 
-        // 1) 먼저 일반 좀비부터 판정 (보스가 있어도 항상 가능해야 함)
-        Zombie normalTarget = null;
-        for (Zombie z : zombies) {
-            if (z.word.equalsIgnoreCase(typed)) {
-                if (normalTarget == null || z.distance < normalTarget.distance) {
-                    normalTarget = z;
-                }
-            }
-        }
-
-        if (normalTarget != null) {
-            Point p = computeZombieCenter(normalTarget);
-            applyBulletHit(normalTarget); // 점수 + 레벨업 처리
-
-            Bullet bullet = new Bullet(startX, startY, p.x, p.y, null);
-            bullets.add(bullet);
-            new BulletThread(bullet).start();
-            return; // 이번 입력은 일반 좀비 명중으로 끝
+        Point p = pointPool.acquire();
+        if (shot.kind == GameSimulation.ShotResult.ZOMBIE) {
+            computeZombieCenter(shot.xPos, shot.distance, shot.spriteIndex, p);
+            // ★ 화면에 남아 있을 수 있는 총알들을 싹 지워준다
+            bullets.clear();
+        } else {
+            computeBossCenter(shot.xPos, shot.distance, p);
         }
 
-        // 2) 일반 좀비가 아니면 보스 판정
-        if (bossZombie != null) {
-            handleBossShot(typed, startX, startY);
-        }
-    }
-
-    private void handleBossShot(String typed, int startX, int startY) {
-        if (bossZombie == null) return;
-
-        boolean bossDead = bossZombie.hit(typed);
-
         // 총알 애니메이션
-        Point p = computeBossCenter();
-        Bullet bullet = new Bullet(startX, startY, p.x, p.y, null);
-        bullets.add(bullet);
-        new BulletThread(bullet).start();
+        bullets.fire(startX, startY, p.x, p.y);
+        pointPool.release(p);
 
-        if (bossDead) {
-            // ★ 세 단어를 모두 맞춰서 최종적으로 쓰러뜨렸을 때만 +1점
-            score += 1;
-
-            // ★ 보스 사망 시 총알들도 바로 지워주기
+        // ★ 보스 사망 시 총알들도 바로 지워주기
+        if (shot.kind == GameSimulation.ShotResult.BOSS && shot.killed) {
             bullets.clear();
+        }
 
-            if (roundManager.checkLevelUp(score)) {
-                if (roundManager.getRound() > 3) {
-                    gameClear();
-                    return;
-                } else {
-                    zombies.clear();
-                    bullets.clear();   // 라운드 넘어갈 때 한 번 더 초기화
-                    tickCount = 0;
-                    damageCooldownTicks = 0;
-
-                    // 🔥 새 라운드 번호에 맞는 배경으로 교체
-                    setupRound(roundManager.getRound());
-
-                    resetBossForNewRound();
-                    startRoundEffect();
-                }
+        // 라운드 클리어 / 게임 클리어
+        if (shot.gameClear) {
+            gameClear();
+            return;
+        }
+        if (shot.roundUp) {
+            if (shot.kind == GameSimulation.ShotResult.BOSS) {
+                bullets.clear();   // 라운드 넘어갈 때 한 번 더 초기화
             }
-            bossZombie = null;
+
+            // 🔥 새 라운드 번호에 맞는 배경으로 교체
+            setupRound(simulation.getRound());
+            startRoundEffect();
         }
 
         updateHud();
-        viewPanel.repaint();
+        repaintView();
     }
 
-    private Point computeZombieCenter(Zombie z) {
+    /** 좀비 몸통 중앙 좌표를 out에 채움 */
+    private void computeZombieCenter(int zx, double distance, int spriteIndex, Point out) {
         int groundY = getHeight() * 2 / 3;
 
-        Image img = null;
-        if (z.spriteIndex >= 0 && z.spriteIndex < zombieImages.length) {
-            img = zombieImages[z.spriteIndex];
-        }
+        Image img = horde.zombieImage(spriteIndex);
         if (img == null) {
             int y = groundY - 60;
-            return new Point(z.xPos, y);
+            out.setLocation(zx, y);
+            return;
         }
 
         int iw = img.getWidth(this);
         int ih = img.getHeight(this);
 
-        float depthScale = (float) (1.0 - (z.distance / 120.0));
+        float depthScale = (float) (1.0 - (distance / 120.0));
         if (depthScale < 0.3f) depthScale = 0.3f;
         if (depthScale > 1.0f) depthScale = 1.0f;
         float spriteScale = 0.25f + 0.55f * depthScale;
@@ -960,87 +1143,52 @@ public class  ZombieGamePanel extends JPanel {
         int drawW = (int) (iw * spriteScale);
         int drawH = (int) (ih * spriteScale);
 
-        int xPos = z.xPos - drawW / 2;
+        int xPos = zx - drawW / 2;
         int yPos = groundY - drawH;
 
         int cx = xPos + drawW / 2;
         int cy = yPos + drawH / 3;
-        return new Point(cx, cy);
+        out.setLocation(cx, cy);
     }
 
-    private Point computeBossCenter() {
+    /** 보스 몸통 중앙 좌표를 out에 채움 */
+    private void computeBossCenter(int bx, double distance, Point out) {
         int groundY = getHeight() * 2 / 3;
 
-        if (bossZombie == null) {
-            return new Point(getWidth() / 2, groundY - 80);
-        }
-
+        Image bossImage = horde.getBossImage();
         if (bossImage == null) {
             int y = groundY - 80;
-            return new Point(bossZombie.xPos, y);
+            out.setLocation(bx, y);
+            return;
         }
 
         int iw = bossImage.getWidth(this);
         int ih = bossImage.getHeight(this);
 
-        float depthScale = (float) (1.0 - (bossZombie.distance / 120.0));
+        float depthScale = (float) (1.0 - (distance / 120.0));
         if (depthScale < 0.4f) depthScale = 0.4f;
         if (depthScale > 1.1f) depthScale = 1.1f;
 
         int drawW = (int) (iw * depthScale);
         int drawH = (int) (ih * depthScale);
 
-        int xPos = bossZombie.xPos - drawW / 2;
+        int xPos = bx - drawW / 2;
         int yPos = groundY - drawH;
 
-        return new Point(xPos + drawW / 2, yPos + drawH / 3);
-    }
-
-    private void applyBulletHit(Zombie target) {
-        // 이미 제거된 좀비면 무시
-        if (!zombies.contains(target)) return;
-
-        // 1) 좀비 제거 & 점수 증가
-        zombies.remove(target);
-        score++;
-
-        // 2) ★ 화면에 남아 있을 수 있는 총알들을 싹 지워준다
-        bullets.clear();
-
-        // 3) 라운드 클리어 / 게임 클리어 체크
-        if (roundManager.checkLevelUp(score)) {
-            if (roundManager.getRound() > 3) {
-                gameClear();
-                return;
-            } else {
-                zombies.clear();
-                bullets.clear();       // 다음 라운드 시작 전에 한 번 더 초기화
-                tickCount = 0;
-                damageCooldownTicks = 0;
-
-                // 🔥 새 라운드 번호에 맞는 배경으로 교체
-                setupRound(roundManager.getRound());
-
-                resetBossForNewRound();
-                startRoundEffect();
-            }
-        }
-
-        updateHud();
-        viewPanel.repaint();
+        out.setLocation(xPos + drawW / 2, yPos + drawH / 3);
     }
 
     // ---------------- 일시정지 / 게임오버 ----------------
 
     private void togglePause() {
-        if (hp <= 0 || isRoundAnimating) return;
+        if (simulation.getHp() <= 0 || isRoundAnimating) return;
         if (isCountingDown) return;
         if (isPaused) return;
 
         isPaused = true;
-        stopGameThread();
+        stopGameLoop();
         frame.pauseBgmForPauseMenu();
-        viewPanel.repaint();
+        repaintView();
 
         JButton muteBtn = new JButton(frame.isBgmMuted() ? "🔇 음악 켜기" : "🔊 음악 끄기");
 
@@ -1067,19 +1215,24 @@ public class  ZombieGamePanel extends JPanel {
         );
 
         if (choice == 1) {
-            stopGameThread();
+            stopGameTasks();
+            activeRenderer.stop();
+            finishStress();
             frame.showStartPanel();
             return;
         }
 
-        isCountingDown = true;
-        new ResumeCountdownThread().start();
+        startResumeCountdown();
     }
 
     private void gameOver() {
-        stopGameThread(); // 또는 gameRunning = false;
+        stopGameTasks();
+        activeRenderer.stop();
+        saveRecording();
+        finishStress();
 
         ScoreManager sm = ScoreManager.getInstance();
+        int score = simulation.getScore();
 
         int prevHigh = sm.getHighestScore();   // 저장 전 최고점
         sm.addScore(playerName, score);        // 현재 점수 저장
@@ -1105,13 +1258,17 @@ public class  ZombieGamePanel extends JPanel {
 
 
     private void gameClear() {
-        stopGameThread();
+        stopGameTasks();
+        activeRenderer.stop();
+        saveRecording();
+        finishStress();
+        int score = simulation.getScore();
         ScoreManager.getInstance().addScore(playerName, score);
 
         String[] options = {"다시하기", "메인으로"};
         int choice = JOptionPane.showOptionDialog(
                 this,
-                "생존!\n\n당신은 끝까지 살아남았습니다.\n최종 점수: " + score + "\n도달 라운드: " + Math.max(1, roundManager.getRound() - 1),
+                "생존!\n\n당신은 끝까지 살아남았습니다.\n최종 점수: " + score + "\n도달 라운드: " + Math.max(1, simulation.getRound() - 1),
                 "생존!",
                 JOptionPane.DEFAULT_OPTION,
                 JOptionPane.INFORMATION_MESSAGE,
@@ -1130,11 +1287,12 @@ public class  ZombieGamePanel extends JPanel {
     // ---------------- HUD / 하트 ----------------
 
     private void updateHud() {
-        infoLabel.setText("플레이어: " + playerName + "  |  라운드: " + roundManager.getRound());
-        scoreLabel.setText("점수: " + score);
+        infoLabel.setText("플레이어: " + playerName + "  |  라운드: " + simulation.getRound());
+        scoreLabel.setText("점수: " + simulation.getScore());
     }
 
     private void updateHearts() {
+        int hp = simulation.getHp();
         heartPanel.removeAll();
         for (int i = 0; i < 5; i++) {
             JLabel heart = new JLabel(i < hp ? "❤️" : "❌");
@@ -1153,20 +1311,7 @@ public class  ZombieGamePanel extends JPanel {
             else System.err.println("gun.png 로드 실패");
         } catch (Exception ex) { ex.printStackTrace(); }
 
-        try { zombieImages[0] = new ImageIcon(getClass().getResource("images/zombie_1.png")).getImage(); }
-        catch (Exception ex) { System.err.println("zombie_1.png 로드 실패"); }
-        try { zombieImages[1] = new ImageIcon(getClass().getResource("images/zombie_2.png")).getImage(); }
-        catch (Exception ex) { System.err.println("zombie_2.png 로드 실패"); }
-        try { zombieImages[2] = new ImageIcon(getClass().getResource("images/zombie_3.png")).getImage(); }
-        catch (Exception ex) { System.err.println("zombie_3.png 로드 실패"); }
-        try { zombieImages[3] = new ImageIcon(getClass().getResource("images/zombie_4.png")).getImage(); }
-        catch (Exception ex) { System.err.println("zombie_4.png 로드 실패"); }
-
-        try {
-            URL bossUrl = getClass().getResource("images/zombie_boss.png");
-            if (bossUrl != null) bossImage = new ImageIcon(bossUrl).getImage();
-            else System.err.println("zombie_boss.png 로드 실패");
-        } catch (Exception ex) { ex.printStackTrace(); }
+        horde = HordeRenderer.fromResources();
 
         try {
             URL bg1 = getClass().getResource("images/ZombieBackground.jpg");      // Round1
@@ -1188,5 +1333,7 @@ public class  ZombieGamePanel extends JPanel {
             backgroundImage = backgroundImage1;
 
         } catch (Exception ignored) {}
+
+        backgroundCache = new BackgroundCache(backgroundImage1, backgroundImage2, backgroundImage3);
     }
 }
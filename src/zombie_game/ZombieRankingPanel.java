@@ -73,6 +73,8 @@ public class ZombieRankingPanel extends JPanel {
 
     // ===================== 랭킹 갱신 =====================
     public void refreshTable() {
+        GameEvents.RankingRefresh ev = new GameEvents.RankingRefresh();
+        ev.begin();
         listPanel.removeAll();
 
         List<ScoreManager.ScoreEntry> list =
@@ -88,6 +90,7 @@ public class ZombieRankingPanel extends JPanel {
 
             revalidate();
             repaint();
+            commitRefresh(ev, 0);
             return;
         }
 
@@ -102,6 +105,16 @@ public class ZombieRankingPanel extends JPanel {
 
         revalidate();
         repaint();
+        commitRefresh(ev, list.size());
+    }
+
+    /** 랭킹 갱신 이벤트 마무리 (임계값을 넘은 경우에만 값 채우고 기록) */
+    private static void commitRefresh(GameEvents.RankingRefresh ev, int rows) {
+        ev.end();
+        if (ev.shouldCommit()) {
+            ev.rows = rows;
+            ev.commit();
+        }
     }
 
     // ===================== UI 컴포넌트 생성 =====================
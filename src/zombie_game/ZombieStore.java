@@ -0,0 +1,140 @@
+package zombie_game;
+
+import java.util.Arrays;
+
+/**
+ * 좀비 무리 저장소 (열 단위 배열)
+ * - 좀비 1마리 = 행 1개, 필드마다 double[] / int[] 배열 하나씩
+ * - 단어는 WordTable id(int)로 저장
+ * - 삭제는 마지막 행을 빈자리로 옮기는 방식 (O(1), 행 순서는 유지되지 않음)
+ * - 좀비 id → 현재 행 번호 맵 유지 (트라이 / 후보 등 외부에서는 id로 참조)
+ * - 동기화 없음 (GameSimulation 안에서만 사용)
+ */
+public class ZombieStore {
+
+    private int size = 0;
+
+    int[] ids = new int[64];
+    int[] wordIds = new int[64];
+    int[] xPos = new int[64];
+    int[] sprites = new int[64];
+    double[] distances = new double[64];
+    boolean[] inSpawnGrid = new boolean[64];
+
+    // id → 행 번호 (오픈 어드레싱, 빈 칸 = 0, 좀비 id는 1부터)
+    private int[] mapKeys = new int[128];
+    private int[] mapRows = new int[128];
+    private int mapUsed = 0;   // 삭제 표시 포함
+
+    private static final int TOMBSTONE = -1;
+
+    public int size() {
+        return size;
+    }
+
+    /** 새 좀비 추가 후 행 번호 반환 */
+    public int add(int id, int wordId, double distance, int x, int sprite) {
+        if (size == ids.length) grow();
+        int row = size++;
+        ids[row] = id;
+        wordIds[row] = wordId;
+        distances[row] = distance;
+        xPos[row] = x;
+        sprites[row] = sprite;
+        inSpawnGrid[row] = false;
+        mapPut(id, row);
+        return row;
+    }
+
+    /** row 삭제 (마지막 행이 row 자리로 옮겨짐) */
+    public void removeAt(int row) {
+        mapRemove(ids[row]);
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            wordIds[row] = wordIds[last];
+            distances[row] = distances[last];
+            xPos[row] = xPos[last];
+            sprites[row] = sprites[last];
+            inSpawnGrid[row] = inSpawnGrid[last];
+            mapPut(ids[row], row);
+        }
+    }
+
+    /** id의 현재 행 번호 (없으면 -1) */
+    public int rowOf(int id) {
+        int mask = mapKeys.length - 1;
+        for (int i = mix(id) & mask; ; i = (i + 1) & mask) {
+            int k = mapKeys[i];
+            if (k == 0) return -1;
+            if (k == id) return mapRows[i];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+        Arrays.fill(mapKeys, 0);
+        mapUsed = 0;
+    }
+
+    private void grow() {
+        int n = ids.length * 2;
+        ids = Arrays.copyOf(ids, n);
+        wordIds = Arrays.copyOf(wordIds, n);
+        xPos = Arrays.copyOf(xPos, n);
+        sprites = Arrays.copyOf(sprites, n);
+        distances = Arrays.copyOf(distances, n);
+        inSpawnGrid = Arrays.copyOf(inSpawnGrid, n);
+    }
+
+    // ---------------- id → 행 맵 ----------------
+
+    private void mapPut(int id, int row) {
+        int mask = mapKeys.length - 1;
+        int slot = -1;
+        for (int i = mix(id) & mask; ; i = (i + 1) & mask) {
+            int k = mapKeys[i];
+            if (k == id) { mapRows[i] = row; return; }
+            if (k == TOMBSTONE && slot < 0) slot = i;
+            if (k == 0) {
+                if (slot < 0) { slot = i; mapUsed++; }
+                break;
+            }
+        }
+        mapKeys[slot] = id;
+        mapRows[slot] = row;
+        if (mapUsed * 2 > mapKeys.length) rehash(Math.max(mapKeys.length, Integer.highestOneBit(size * 4 + 4)));
+    }
+
+    private void mapRemove(int id) {
+        int mask = mapKeys.length - 1;
+        for (int i = mix(id) & mask; ; i = (i + 1) & mask) {
+            int k = mapKeys[i];
+            if (k == 0) return;
+            if (k == id) { mapKeys[i] = TOMBSTONE; return; }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = mapKeys;
+        int[] oldRows = mapRows;
+        mapKeys = new int[capacity];
+        mapRows = new int[capacity];
+        mapUsed = 0;
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            int k = oldKeys[j];
+            if (k <= 0) continue;
+            int i = mix(k) & mask;
+            while (mapKeys[i] != 0) i = (i + 1) & mask;
+            mapKeys[i] = k;
+            mapRows[i] = oldRows[j];
+            mapUsed++;
+        }
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,42 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** BackgroundCache: 미리 만들기 예약 합치기 (창 크기를 끌며 바꿀 때) */
+class BackgroundCacheTest {
+
+    private static void awaitPrepared(BackgroundCache cache, int round) throws InterruptedException {
+        for (int i = 0; i < 200 && cache.isPreparing(round); i++) Thread.sleep(10);
+        assertFalse(cache.isPreparing(round), "미리 만들기가 끝나지 않음");
+    }
+
+    @Test
+    void burstOfResizesPreparesOnlyTheLastSize() throws InterruptedException {
+        BackgroundCache cache = new BackgroundCache(
+                new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB),
+                new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB));
+
+        for (int w = 300; w < 330; w++) cache.prepare(2, w, 200, null);
+        assertTrue(cache.isPreparing(2));
+        awaitPrepared(cache, 2);
+
+        BufferedImage img = cache.get(2, 329, 200, null);
+        assertEquals(329, img.getWidth());
+        assertSame(img, cache.get(2, 329, 200, null), "미리 만든 이미지를 그대로 써야 함");
+    }
+
+    @Test
+    void alreadyCachedSizeIsNotPreparedAgain() throws InterruptedException {
+        BackgroundCache cache = new BackgroundCache(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB));
+        BufferedImage img = cache.get(1, 200, 100, null);
+
+        cache.prepare(1, 200, 100, null);
+
+        assertFalse(cache.isPreparing(1));
+        assertSame(img, cache.get(1, 200, 100, null));
+    }
+}
@@ -0,0 +1,144 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** GameSimulation: 좀비 이동, 시드 재현성, 라운드 사이 멈춤, 사격 판정 */
+class GameSimulationTest {
+
+    private static GameSimulation started(long seed) {
+        GameSimulation sim = new GameSimulation();
+        sim.reset(seed);
+        sim.setFieldWidth(1200);
+        sim.endIntermission();
+        return sim;
+    }
+
+    /** 좀비가 나올 때까지 틱 진행 */
+    private static GameSimulation.Snapshot stepUntilZombie(GameSimulation sim) {
+        for (int i = 0; i < 1000; i++) {
+            sim.step();
+            GameSimulation.Snapshot s = sim.snapshot();
+            if (s.zombieCount > 0) return s;
+        }
+        fail("좀비가 나오지 않음");
+        return null;
+    }
+
+    @Test
+    void zombiesWalkTowardThePlayer() {
+        GameSimulation sim = started(7);
+        GameSimulation.Snapshot before = stepUntilZombie(sim);
+
+        sim.step();
+        GameSimulation.Snapshot after = sim.snapshot();
+
+        assertEquals(before.zombieIds[0], after.zombieIds[0]);
+        assertTrue(after.zombieDistances[0] < before.zombieDistances[0]);
+        assertEquals(before.tickCount + 1, after.tickCount);
+    }
+
+    @Test
+    void sameSeedPlaysTheSameGame() {
+        GameSimulation a = started(42);
+        GameSimulation b = started(42);
+
+        for (int tick = 0; tick < 500; tick++) {
+            assertEquals(a.step(), b.step());
+            GameSimulation.Snapshot sa = a.snapshot();
+            GameSimulation.Snapshot sb = b.snapshot();
+            assertEquals(sa.zombieCount, sb.zombieCount, "tick " + tick);
+            for (int i = 0; i < sa.zombieCount; i++) {
+                assertEquals(sa.zombieWords[i], sb.zombieWords[i]);
+                assertEquals(sa.zombieX[i], sb.zombieX[i]);
+                assertEquals(sa.zombieDistances[i], sb.zombieDistances[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void intermissionHoldsTheClock() {
+        GameSimulation sim = new GameSimulation();
+        sim.reset(1);
+
+        assertEquals(GameSimulation.TickResult.NONE, sim.step());
+        assertEquals(0, sim.getTotalTicks());
+
+        sim.endIntermission();
+        sim.step();
+        assertEquals(1, sim.getTotalTicks());
+    }
+
+    @Test
+    void shootingAWordRemovesThatZombie() {
+        GameSimulation sim = started(7);
+        GameSimulation.Snapshot before = stepUntilZombie(sim);
+
+        GameSimulation.ShotResult r = sim.shoot(before.zombieWords[0]);
+
+        assertEquals(GameSimulation.ShotResult.ZOMBIE, r.kind);
+        assertTrue(r.killed);
+        assertEquals(1, sim.getScore());
+        assertEquals(before.zombieCount - 1, sim.snapshot().zombieCount);
+    }
+
+    @Test
+    void typingRepublishesOnlyTheCandidateColumn() {
+        GameSimulation sim = started(7);
+        GameSimulation.Snapshot before = stepUntilZombie(sim);
+        String word = before.zombieWords[0];
+
+        sim.updateTyping(word.substring(0, 1));
+        GameSimulation.Snapshot typed = sim.snapshot();
+
+        assertNotSame(before, typed);
+        assertTrue(typed.zombieCandidates[0]);
+        assertFalse(before.zombieCandidates[0], "발행한 스냅샷은 바뀌지 않음");
+        assertSame(before.zombieIds, typed.zombieIds);
+        assertSame(before.zombieWords, typed.zombieWords);
+        assertSame(before.zombieDistances, typed.zombieDistances);
+
+        sim.updateTyping(word.substring(0, 1));
+        assertSame(typed, sim.snapshot(), "같은 입력이면 다시 발행하지 않음");
+    }
+
+    @Test
+    void clearTypingIsFreeWhenNothingIsTyped() {
+        GameSimulation sim = started(7);
+        GameSimulation.Snapshot before = stepUntilZombie(sim);
+
+        assertFalse(sim.clearTyping());
+        assertSame(before, sim.snapshot());
+
+        sim.updateTyping(before.zombieWords[0]);
+        assertTrue(sim.clearTyping());
+        assertFalse(sim.snapshot().zombieCandidates[0]);
+    }
+
+    @Test
+    void tickWithoutSpawnsSharesTheRowColumns() {
+        GameSimulation sim = started(7);
+        GameSimulation.Snapshot a = stepUntilZombie(sim);
+        sim.step();
+        GameSimulation.Snapshot b = sim.snapshot();
+
+        assertEquals(a.zombieCount, b.zombieCount, "스폰 바로 다음 틱에는 추가 / 삭제 없음");
+        assertSame(a.zombieWords, b.zombieWords);
+        assertSame(a.zombieX, b.zombieX);
+        assertNotSame(a.zombieDistances, b.zombieDistances);
+        assertTrue(b.zombieDistances[0] < a.zombieDistances[0]);
+    }
+
+    @Test
+    void missedShotChangesNothing() {
+        GameSimulation sim = started(7);
+        GameSimulation.Snapshot before = stepUntilZombie(sim);
+
+        GameSimulation.ShotResult r = sim.shoot("이런단어는없음");
+
+        assertEquals(GameSimulation.ShotResult.MISS, r.kind);
+        assertEquals(0, sim.getScore());
+        assertEquals(before.zombieCount, sim.snapshot().zombieCount);
+    }
+}
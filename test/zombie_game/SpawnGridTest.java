@@ -0,0 +1,87 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** SpawnGrid: 차단 판정, 빈 자리 균등 선택 (하나씩 검사한 결과와 비교) */
+class SpawnGridTest {
+
+    private static List<Integer> freeByBruteForce(SpawnGrid grid, int minX, int maxX) {
+        List<Integer> free = new ArrayList<>();
+        for (int x = minX; x < maxX; x++) {
+            if (!grid.isBlocked(x)) free.add(x);
+        }
+        return free;
+    }
+
+    @Test
+    void blockedWithinRadiusOnly() {
+        SpawnGrid grid = new SpawnGrid(50);
+        grid.add(1, 200, 50);
+
+        assertTrue(grid.isBlocked(200));
+        assertTrue(grid.isBlocked(151));
+        assertTrue(grid.isBlocked(249));
+        assertFalse(grid.isBlocked(150));
+        assertFalse(grid.isBlocked(250));
+
+        assertTrue(grid.remove(1, 200, 50));
+        assertFalse(grid.isBlocked(200));
+        assertFalse(grid.remove(1, 200, 50));
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    void randomFreeXEnumeratesEveryFreeSpotInOrder() {
+        Random rnd = new Random(3);
+        for (int round = 0; round < 20; round++) {
+            SpawnGrid grid = new SpawnGrid(60);
+            for (int id = 1; id <= 8; id++) grid.add(id, rnd.nextInt(1000), 20 + rnd.nextInt(41));
+
+            List<Integer> free = freeByBruteForce(grid, 100, 900);
+            for (int k = 0; k < free.size(); k++) {
+                double u = (k + 0.5) / free.size();
+                assertEquals((int) free.get(k), grid.randomFreeX(100, 900, u), "round " + round + " k " + k);
+            }
+        }
+    }
+
+    @Test
+    void removeFindsTheRightEntryAmongEqualSpans() {
+        SpawnGrid grid = new SpawnGrid(50);
+        for (int id = 1; id <= 5; id++) grid.add(id, 200, 50);
+        grid.add(6, 230, 20);
+
+        assertFalse(grid.remove(3, 200, 20), "반경이 다르면 다른 구간");
+        assertTrue(grid.remove(3, 200, 50));
+        assertFalse(grid.remove(3, 200, 50));
+        for (int id : new int[]{1, 2, 4, 5}) assertTrue(grid.remove(id, 200, 50));
+
+        assertFalse(grid.isBlocked(180));
+        assertTrue(grid.isBlocked(240));
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void fullyBlockedRangeHasNoSpot() {
+        SpawnGrid grid = new SpawnGrid(50);
+        for (int x = 0; x <= 300; x += 60) grid.add(x + 1, x, 50);
+
+        assertEquals(-1, grid.randomFreeX(10, 290, 0.5));
+        assertEquals(-1, grid.randomFreeX(100, 100, 0.5));
+    }
+
+    @Test
+    void radiusIsCappedAtCellWidth() {
+        SpawnGrid grid = new SpawnGrid(10);
+        grid.add(1, 100, 1000);
+
+        assertTrue(grid.isBlocked(109));
+        assertFalse(grid.isBlocked(110));
+    }
+}
@@ -0,0 +1,134 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** WordJournal: 저널 다시 적용, 압축 도중 종료 복구, 잘린 줄, 쓰기 실패 */
+class WordJournalTest {
+
+    @TempDir
+    Path dir;
+
+    /** 다시 적용된 순서대로 모으는 대상 */
+    private static final class Collected implements WordJournal.Target {
+        final List<String> words = new ArrayList<>();
+        @Override public void add(String word) { words.add(word); }
+        @Override public void remove(String word) { words.remove(word); }
+    }
+
+    private File base() {
+        return dir.resolve("words.txt").toFile();
+    }
+
+    private void write(String name, String text) throws IOException {
+        Files.write(dir.resolve(name), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> reload() {
+        Collected c = new Collected();
+        new WordJournal(base()).load(c);
+        return c.words;
+    }
+
+    @Test
+    void addsAndRemovesReplayOnReload() throws IOException {
+        write("words.txt", "사과\n");
+        WordJournal j = new WordJournal(base());
+        j.load(new Collected());
+
+        j.appendAdd("바나나");
+        j.appendAll('+', Arrays.asList("포도", "귤"));
+        j.appendRemove("사과");
+
+        assertEquals(Arrays.asList("바나나", "포도", "귤"), reload());
+    }
+
+    @Test
+    void crashBeforeSnapshotMoveKeepsEveryEditOnce() throws IOException {
+        // 압축 도중 종료: 저널 0은 넘겼고 새 저널 1에도 썼지만, 임시 스냅샷을 words.txt로 옮기기 전
+        write("words.txt", "사과\n");
+        write("words.txt.journal.0", WordJournal.GEN_HEADER + "0\n+\t바나나\n");
+        write("words.txt.journal", WordJournal.GEN_HEADER + "1\n+\t포도\n");
+        write("words.txt.tmp", WordJournal.GEN_HEADER + "1\n사과\n바나나\n");
+
+        assertEquals(Arrays.asList("사과", "바나나", "포도"), reload());
+        assertFalse(Files.exists(dir.resolve("words.txt.tmp")), "옮기지 못한 임시 스냅샷은 버림");
+    }
+
+    @Test
+    void crashAfterSnapshotMoveSkipsTheFoldedJournal() throws IOException {
+        // 스냅샷은 옮겼지만 옛 저널을 지우기 전
+        write("words.txt", WordJournal.GEN_HEADER + "1\n사과\n바나나\n");
+        write("words.txt.journal.0", WordJournal.GEN_HEADER + "0\n+\t바나나\n");
+        write("words.txt.journal", WordJournal.GEN_HEADER + "1\n+\t포도\n");
+
+        assertEquals(Arrays.asList("사과", "바나나", "포도"), reload());
+        assertFalse(Files.exists(dir.resolve("words.txt.journal.0")));
+    }
+
+    @Test
+    void truncatedLastLineIsDroppedAndOverwritten() throws IOException {
+        write("words.txt.journal", WordJournal.GEN_HEADER + "0\n+\t사과\n+\t바나");
+
+        WordJournal j = new WordJournal(base());
+        Collected c = new Collected();
+        j.load(c);
+        assertEquals(List.of("사과"), c.words);
+
+        j.appendAdd("포도");
+        assertEquals(Arrays.asList("사과", "포도"), reload());
+    }
+
+    @Test
+    void compactionFoldsTheJournalIntoTheSnapshot() throws IOException, InterruptedException {
+        WordJournal j = new WordJournal(base());
+        j.load(new Collected());
+        j.appendAll('+', Arrays.asList("사과", "바나나"));
+
+        j.compact(Arrays.asList("사과", "바나나"));
+        for (int i = 0; i < 200 && j.isCompacting(); i++) Thread.sleep(10);
+        assertFalse(j.isCompacting(), "압축이 끝나지 않음");
+        j.appendAdd("포도");
+
+        assertEquals(Arrays.asList("사과", "바나나", "포도"), reload());
+        assertFalse(Files.exists(dir.resolve("words.txt.journal.0")));
+        assertTrue(Files.readAllLines(base().toPath()).get(0).startsWith(WordJournal.GEN_HEADER + "1"));
+    }
+
+    @Test
+    void appendsAloneReachTheCompactionThreshold() throws IOException {
+        List<String> snapshot = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) snapshot.add("w" + i);
+        Files.write(base().toPath(), snapshot, StandardCharsets.UTF_8);
+
+        WordJournal j = new WordJournal(base());
+        j.load(new Collected());
+
+        int appended = 0;
+        while (!j.needsCompaction(snapshot.size() + appended) && appended < 5000) {
+            j.appendAdd("n" + appended++);
+        }
+        assertTrue(appended <= snapshot.size(), "추가만 해도 스냅샷 단어 수만큼 쌓이면 압축: " + appended);
+    }
+
+    @Test
+    void failedAppendThrowsAndRecordsNothing() throws IOException {
+        Files.createDirectory(dir.resolve("words.txt.journal"));   // 저널 자리에 폴더 → 열 수 없음
+        WordJournal j = new WordJournal(base());
+        j.load(new Collected());
+
+        assertThrows(IOException.class, () -> j.appendAdd("사과"));
+        assertFalse(j.needsCompaction(0));
+    }
+}
@@ -0,0 +1,147 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** WordManager: 정규화 키 중복 판정, 한꺼번에 삭제, 저널로 다시 불러오기, 난이도 구간 */
+class WordManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private File wordFile(String... words) throws IOException {
+        File f = dir.resolve("words.txt").toFile();
+        Files.write(f.toPath(), Arrays.asList(words), StandardCharsets.UTF_8);
+        return f;
+    }
+
+    private static String nfd(String s) {
+        return Normalizer.normalize(s, Normalizer.Form.NFD);
+    }
+
+    @Test
+    void duplicatesAreFoundAcrossNormalizationAndCase() throws IOException {
+        WordManager wm = new WordManager(wordFile("사과", "Zombie"));
+
+        assertNotEquals("사과", nfd("사과"), "NFD는 자모가 풀린 다른 문자열");
+        assertFalse(wm.addWord(nfd("사과")));
+        assertFalse(wm.addWord("  사과 "));
+        assertFalse(wm.addWord("ZOMBIE"));
+        assertFalse(wm.addWord("zombie"));
+        assertTrue(wm.addWord(nfd("포도")));
+        assertFalse(wm.addWord("포도"));
+
+        assertEquals(Arrays.asList("사과", "Zombie", "포도"), wm.getWords(), "추가한 단어는 NFC로 저장");
+    }
+
+    @Test
+    void containsIgnoresNormalizationAndCase() throws IOException {
+        WordManager wm = new WordManager(wordFile("Straße", "닭볶음탕"));
+
+        assertTrue(wm.contains("STRASSE"));
+        assertTrue(wm.contains(nfd("닭볶음탕")));
+        assertFalse(wm.contains("닭볶음"));
+        assertFalse(wm.contains("   "));
+    }
+
+    @Test
+    void addWordsSkipsDuplicatesInsideTheBatch() throws IOException {
+        WordManager wm = new WordManager(wordFile("사과"));
+
+        int added = wm.addWords(Arrays.asList("포도", nfd("포도"), "사과", "Kiwi", "KIWI", "", "귤\n감"));
+
+        assertEquals(2, added);
+        assertEquals(Arrays.asList("사과", "포도", "Kiwi"), wm.getWords());
+    }
+
+    @Test
+    void removeWordsDropsEveryVariantInOnePass() throws IOException {
+        WordManager wm = new WordManager(wordFile("사과", "포도", "Kiwi", "귤"));
+
+        int removed = wm.removeWords(Arrays.asList(nfd("사과"), "KIWI", "없는단어", "kiwi"));
+
+        assertEquals(2, removed);
+        assertEquals(Arrays.asList("포도", "귤"), wm.getWords());
+        assertFalse(wm.contains("사과"));
+        assertFalse(wm.removeWord("사과"));
+        assertTrue(wm.addWord("kiwi"), "지운 단어는 다시 추가할 수 있음");
+    }
+
+    @Test
+    void editsSurviveAReload() throws IOException {
+        File f = wordFile("사과", "포도");
+        WordManager wm = new WordManager(f);
+        wm.addWord("귤");
+        wm.removeWord("사과");
+        wm.addWords(Arrays.asList("Kiwi", "수박"));
+
+        List<String> reloaded = new WordManager(f).getWords();
+
+        assertEquals(Arrays.asList("포도", "귤", "Kiwi", "수박"), reloaded);
+    }
+
+    @Test
+    void bandCountsFollowEdits() throws IOException {
+        WordManager wm = new WordManager(wordFile("가", "고양이", "닭볶음탕집"));
+        int[] before = counts(wm);
+        assertEquals(3, before[0] + before[1] + before[2]);
+
+        String added = "빨간색볶음밥";
+        DifficultyBand band = WordDifficulty.band(added);
+        wm.addWord(added);
+        assertEquals(before[band.ordinal()] + 1, wm.getWordCount(band));
+        Random rnd = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(band, WordDifficulty.band(wm.getRandomWord(band, rnd)), "뽑은 단어는 그 구간이어야 함");
+        }
+
+        wm.removeWord(added);
+        assertArrayEquals(before, counts(wm));
+    }
+
+    @Test
+    void publishedListsStayFixedWhileEditsContinue() throws IOException {
+        WordManager wm = new WordManager(wordFile("사과", "포도"));
+        List<String> before = wm.getWords();
+
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) added.add("단어" + i);
+        wm.addWords(added);
+        List<String> grown = wm.getWords();
+        wm.addWord("귤");
+        wm.removeWords(Arrays.asList("사과", "단어5"));
+        wm.addWord("수박");
+
+        assertEquals(Arrays.asList("사과", "포도"), before, "발행한 목록은 뒤의 추가 / 삭제에 영향 없음");
+        assertEquals(102, grown.size());
+        assertEquals("단어99", grown.get(101));
+        assertThrows(IndexOutOfBoundsException.class, () -> before.get(2));
+
+        List<String> now = wm.getWords();
+        assertEquals(102, now.size());
+        assertEquals("포도", now.get(0));
+        assertEquals("수박", now.get(101));
+        int total = 0;
+        for (int c : counts(wm)) total += c;
+        assertEquals(now.size(), total, "구간별 단어 수 합 = 전체 단어 수");
+    }
+
+    private static int[] counts(WordManager wm) {
+        int[] c = new int[DifficultyBand.values().length];
+        for (DifficultyBand b : DifficultyBand.values()) c[b.ordinal()] = wm.getWordCount(b);
+        return c;
+    }
+}
@@ -0,0 +1,116 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** WordPack: 쓰기 → 읽기 왕복, 원본이 바뀐 팩 / 깨진 팩 무시, 목록 보기 */
+class WordPackTest {
+
+    @TempDir
+    Path dir;
+
+    private static final List<String> WORDS = Arrays.asList("사과", "zombie", "닭볶음탕", "Ünïcode", "😀웃음");
+
+    /** 텍스트 원본을 쓰고 옆에 팩을 만듦 */
+    private File packed(long generation) throws IOException {
+        File src = dir.resolve("words.txt").toFile();
+        List<String> lines = new ArrayList<>();
+        lines.add(WordJournal.GEN_HEADER + generation);
+        lines.addAll(WORDS);
+        Files.write(src.toPath(), lines, StandardCharsets.UTF_8);
+        WordPack.write(WORDS, generation, src, WordPack.pathFor(src));
+        return src;
+    }
+
+    @Test
+    void writeThenOpenRoundTrips() throws IOException {
+        File src = packed(7);
+        WordPack pack = WordPack.open(WordPack.pathFor(src));
+
+        assertEquals(WORDS.size(), pack.size());
+        assertEquals(7, pack.getGeneration());
+        for (int i = 0; i < WORDS.size(); i++) {
+            String w = WORDS.get(i);
+            assertEquals(w, pack.get(i));
+            assertEquals(WordDifficulty.syllables(w), pack.syllables(i));
+            assertEquals(WordDifficulty.jamoCount(w), pack.jamoCount(i));
+            assertEquals(WordDifficulty.band(w).ordinal(), pack.band(i));
+        }
+        assertSame(pack.get(2), pack.get(2), "한 번 디코딩한 단어는 그대로 재사용");
+    }
+
+    @Test
+    void packNextToTextFileUsesPackExtension() {
+        File src = dir.resolve("boss_words.txt").toFile();
+        assertEquals(dir.resolve("boss_words.pack").toFile().getAbsoluteFile(), WordPack.pathFor(src));
+    }
+
+    @Test
+    void packIsStaleOnceTheSourceChanges() throws IOException {
+        File src = packed(0);
+        assertTrue(WordPack.open(WordPack.pathFor(src)).isFreshFor(src));
+        assertNotNull(WordPack.openFor(src));
+
+        // 크기가 바뀜
+        Files.write(src.toPath(), "추가\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertFalse(WordPack.open(WordPack.pathFor(src)).isFreshFor(src));
+        assertNull(WordPack.openFor(src));
+    }
+
+    @Test
+    void packIsStaleWhenOnlyTheModifiedTimeChanges() throws IOException {
+        File src = packed(0);
+        assertTrue(src.setLastModified(src.lastModified() - 60_000));
+
+        assertNull(WordPack.openFor(src));
+    }
+
+    @Test
+    void corruptOrMissingPackIsIgnored() throws IOException {
+        File src = packed(0);
+        File packFile = WordPack.pathFor(src);
+
+        Files.write(packFile.toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> WordPack.open(packFile));
+        assertNull(WordPack.openFor(src));
+
+        Files.delete(packFile.toPath());
+        assertNull(WordPack.openFor(src));
+    }
+
+    @Test
+    void listViewIsReadOnlyAndKnowsItsPack() throws IOException {
+        File src = packed(0);
+        WordPack pack = WordPack.openFor(src);
+        assertNotNull(pack);
+        List<String> view = pack.asList();
+
+        assertEquals(WORDS, view);
+        assertSame(pack, WordPack.of(view));
+        assertNull(WordPack.of(new ArrayList<>(WORDS)));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(WORDS.size()));
+    }
+
+    @Test
+    void readTextTakesGenerationFromTheFirstLineOnly() throws IOException {
+        File src = dir.resolve("words.txt").toFile();
+        Files.write(src.toPath(), Arrays.asList(WordJournal.GEN_HEADER + "3", "  사과 ", "", "#gen=9"), StandardCharsets.UTF_8);
+
+        List<String> out = new ArrayList<>();
+        assertEquals(3, WordPack.readText(src, out));
+        assertEquals(Arrays.asList("사과", "#gen=9"), out);
+    }
+}
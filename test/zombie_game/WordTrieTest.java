@@ -0,0 +1,109 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** WordTrie: 대소문자 무시 조회, 값 추가 / 제거, 접두사 개수, 빈 노드 정리 */
+class WordTrieTest {
+
+    private static List<String> prefix(WordTrie<String> trie, String p) {
+        List<String> out = new ArrayList<>();
+        trie.collectPrefix(p, out);
+        return out;
+    }
+
+    @Test
+    void exactLookupIgnoresCase() {
+        WordTrie<String> trie = new WordTrie<>();
+        trie.add("Hello", "a");
+
+        assertEquals(List.of("a"), trie.get("hello"));
+        assertEquals(List.of("a"), trie.get("HELLO"));
+        assertTrue(trie.get("hell").isEmpty());
+        assertTrue(trie.get("hello!").isEmpty());
+    }
+
+    @Test
+    void valuesOfOneWordKeepInsertionOrder() {
+        WordTrie<String> trie = new WordTrie<>();
+        trie.add("좀비", "1");
+        trie.add("좀비", "2");
+        trie.add("좀비", "3");
+
+        assertTrue(trie.remove("좀비", "2"));
+        assertEquals(List.of("1", "3"), trie.get("좀비"));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void removeOnlyMatchingValue() {
+        WordTrie<String> trie = new WordTrie<>();
+        trie.add("apple", "a");
+
+        assertFalse(trie.remove("apple", "b"));
+        assertFalse(trie.remove("app", "a"));
+        assertFalse(trie.remove("apples", "a"));
+        assertEquals(1, trie.size());
+        assertTrue(trie.remove("APPLE", "a"));
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    void prefixCountsFollowAddAndRemove() {
+        WordTrie<String> trie = new WordTrie<>();
+        trie.add("car", "car");
+        trie.add("cart", "cart");
+        trie.add("cat", "cat");
+        trie.add("dog", "dog");
+
+        assertEquals(3, prefix(trie, "ca").size());
+        assertEquals(2, prefix(trie, "car").size());
+        assertEquals(4, prefix(trie, "").size());
+        assertTrue(trie.hasPrefix("do"));
+
+        trie.remove("car", "car");
+        assertEquals(List.of("cart"), prefix(trie, "car"));
+        assertTrue(trie.hasPrefix("car"));
+
+        trie.remove("dog", "dog");
+        assertFalse(trie.hasPrefix("d"));
+        assertTrue(prefix(trie, "do").isEmpty());
+    }
+
+    @Test
+    void hangulPrefixThroughJamoKeys() {
+        WordTrie<String> trie = new WordTrie<>();
+        for (String w : new String[]{"김치", "김밥", "라면"}) trie.add(HangulJamo.key(w), w);
+
+        // 조합 중인 "김ㅊ" / 받침이 다음 글자 초성이 될 수 있는 "기"
+        assertEquals(List.of("김치"), prefix(trie, HangulJamo.key("김ㅊ")));
+        assertEquals(2, prefix(trie, HangulJamo.key("기")).size());
+        assertTrue(prefix(trie, HangulJamo.key("김치찌개")).isEmpty());
+    }
+
+    @Test
+    void emptyNodesArePruned() {
+        WordTrie<String> trie = new WordTrie<>();
+        trie.add("base", "base");
+        int baseline = trie.nodeCount();
+
+        for (int i = 0; i < 1000; i++) {
+            String w = "word" + i;
+            trie.add(w, w);
+            assertTrue(trie.remove(w, w));
+        }
+        trie.add("basement", "x");
+        trie.remove("basement", "x");
+
+        assertEquals(baseline, trie.nodeCount());
+        assertEquals(List.of("base"), trie.get("base"));
+
+        trie.remove("base", "base");
+        assertEquals(1, trie.nodeCount());
+        assertEquals(0, trie.size());
+    }
+}
@@ -0,0 +1,97 @@
+package zombie_game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** ZombieStore: 마지막 행을 옮기는 삭제, id → 행 맵 (삭제 표시 재사용 / 재해시) */
+class ZombieStoreTest {
+
+    /** 모든 행이 맵과 일치하고, 지워진 id는 찾지 못하는지 */
+    private static void assertConsistent(ZombieStore store, Map<Integer, Integer> wordOf, int maxId) {
+        assertEquals(wordOf.size(), store.size());
+        for (int row = 0; row < store.size(); row++) {
+            int id = store.ids[row];
+            assertEquals(row, store.rowOf(id), "id " + id);
+            assertEquals((int) wordOf.get(id), store.wordIds[row], "id " + id);
+        }
+        for (int id = 1; id <= maxId; id++) {
+            if (!wordOf.containsKey(id)) assertEquals(-1, store.rowOf(id), "removed id " + id);
+        }
+    }
+
+    @Test
+    void removeMovesLastRowIntoHole() {
+        ZombieStore store = new ZombieStore();
+        store.add(1, 10, 100.0, 5, 0);
+        store.add(2, 20, 90.0, 6, 1);
+        store.add(3, 30, 80.0, 7, 2);
+
+        store.removeAt(0);
+
+        assertEquals(2, store.size());
+        assertEquals(3, store.ids[0]);
+        assertEquals(30, store.wordIds[0]);
+        assertEquals(80.0, store.distances[0], 0.0);
+        assertEquals(7, store.xPos[0]);
+        assertEquals(2, store.sprites[0]);
+        assertEquals(0, store.rowOf(3));
+        assertEquals(1, store.rowOf(2));
+        assertEquals(-1, store.rowOf(1));
+    }
+
+    @Test
+    void removingLastRowMovesNothing() {
+        ZombieStore store = new ZombieStore();
+        store.add(1, 10, 100.0, 5, 0);
+        store.add(2, 20, 90.0, 6, 1);
+
+        store.removeAt(1);
+
+        assertEquals(1, store.size());
+        assertEquals(0, store.rowOf(1));
+        assertEquals(-1, store.rowOf(2));
+    }
+
+    @Test
+    void churnThroughTombstonesAndRehash() {
+        ZombieStore store = new ZombieStore();
+        Map<Integer, Integer> wordOf = new HashMap<>();
+        Random rnd = new Random(11);
+        int nextId = 1;
+
+        // 늘었다 줄었다 하며 삭제 표시가 쌓이고 (크기가 같은) 재해시가 일어나도록
+        for (int i = 0; i < 20_000; i++) {
+            boolean add = store.size() == 0 || (store.size() < 300 && rnd.nextInt(100) < 55);
+            if (add) {
+                int id = nextId++;
+                int word = rnd.nextInt(1000);
+                store.add(id, word, rnd.nextDouble() * 100, rnd.nextInt(1000), rnd.nextInt(4));
+                wordOf.put(id, word);
+            } else {
+                int row = rnd.nextInt(store.size());
+                wordOf.remove(store.ids[row]);
+                store.removeAt(row);
+            }
+            if (i % 997 == 0) assertConsistent(store, wordOf, nextId - 1);
+        }
+        assertConsistent(store, wordOf, nextId - 1);
+    }
+
+    @Test
+    void clearForgetsAllIds() {
+        ZombieStore store = new ZombieStore();
+        for (int id = 1; id <= 100; id++) store.add(id, id, 0, 0, 0);
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        for (int id = 1; id <= 100; id++) assertEquals(-1, store.rowOf(id));
+        assertEquals(0, store.add(5, 5, 0, 0, 0));
+        assertEquals(0, store.rowOf(5));
+    }
+}